@@ -0,0 +1,48 @@
+// 느린 TMDB(응답 300ms)를 호출하는 검색 API 부하 테스트 (k6)
+//
+// 1. 기존 방식 (Tomcat 플랫폼 스레드, 기본 최대 200개)
+//    ./gradlew bootRunLoadTest --args='--spring.threads.virtual.enabled=false'
+//    k6 run loadtest/search-slow-tmdb.js
+//
+// 2. 가상 스레드 방식 (Java 21)
+//    ./gradlew bootRunLoadTest --args='--spring.threads.virtual.enabled=true'
+//    k6 run loadtest/search-slow-tmdb.js
+//
+// 두 결과의 http_reqs(초당 처리량)와 http_req_duration(p95)을 비교합니다.
+// 동시 사용자가 Tomcat 스레드 수를 넘으면 1번은 대기열이 생겨 응답 시간이 늘어나고, 2번은 TMDB 지연 시간 근처를 유지합니다.
+//
+// loadtest 프로필(src/loadtest/resources/application-loadtest.yml)의 설정:
+// - resilience.bulkhead.max-concurrent-calls=2000, max-wait=5s
+//   (기본값 50 / 100ms 그대로면 두 방식 모두 초당 약 166건에서 막히고 나머지는 503 이 되어 비교가 되지 않음)
+// - tmdb.feign.max-connections=2000, max-connections-per-route=2000 (기본값 200)
+// 운영 설정으로 측정하려면 위 값을 되돌리고, 이때는 벌크헤드 초과(503)가 http_req_failed 에 포함된다는 점을 감안합니다.
+// 매 요청 검색어가 달라 TMDB 응답 캐시와 로컬 검색 색인을 거치지 않고 TMDB(스텁)를 호출합니다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+    scenarios: {
+        search: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '20s', target: 200 },
+                { duration: '40s', target: 1000 },
+                { duration: '20s', target: 1000 },
+                { duration: '10s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export default function () {
+    const query = `loadtest-${__VU}-${__ITER}-${Math.random().toString(36).substring(2, 8)}`;
+    const res = http.get(`${BASE_URL}/api/movies/search?query=${query}`);
+
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,74 @@
+package kopo.sideproject.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 평가한 영화가 각각 10,000편인 두 사용자의 취향 일치도 계산 벤치마크
+ * 두 사용자는 전체 영화 20,000편 중에서 무작위로 평가하므로 약 절반이 겹칩니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RatingVectorBenchmark {
+
+    private static final int RATINGS_PER_USER = 10_000;
+    private static final int CATALOG_SIZE = 20_000;
+
+    private RatingVector a;
+    private RatingVector b;
+    private byte[] encodedA;
+    private byte[] encodedB;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+
+        a = randomVector(random);
+        b = randomVector(random);
+        encodedA = a.encode();
+        encodedB = b.encode();
+    }
+
+    @Benchmark
+    public RatingVector.TasteMatch tasteMatch() {
+        return RatingVector.tasteMatch(a, b);
+    }
+
+    // DB 에서 읽은 두 벡터를 복원한 뒤 계산 (API 요청 한 번에 해당)
+    @Benchmark
+    public RatingVector.TasteMatch decodeAndTasteMatch() {
+        return RatingVector.tasteMatch(RatingVector.decode(encodedA), RatingVector.decode(encodedB));
+    }
+
+    // 리뷰 작성 시 벡터 갱신
+    @Benchmark
+    public byte[] withAndEncode() {
+        return RatingVector.decode(encodedA).with(CATALOG_SIZE + 1, 4.5).encode();
+    }
+
+    private static RatingVector randomVector(SplittableRandom random) {
+        // 전체 영화 중 RATINGS_PER_USER 편을 중복 없이 선택 (부분 Fisher-Yates)
+        long[] catalog = new long[CATALOG_SIZE];
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            catalog[i] = i + 1;
+        }
+
+        long[] movieIds = new long[RATINGS_PER_USER];
+        double[] ratings = new double[RATINGS_PER_USER];
+
+        for (int i = 0; i < RATINGS_PER_USER; i++) {
+            int j = i + random.nextInt(CATALOG_SIZE - i);
+            long tmp = catalog[i];
+            catalog[i] = catalog[j];
+            catalog[j] = tmp;
+
+            movieIds[i] = catalog[i];
+            ratings[i] = (random.nextInt(10) + 1) / 2.0;
+        }
+
+        return RatingVector.of(movieIds, ratings);
+    }
+}
@@ -0,0 +1,107 @@
+package kopo.sideproject.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트(loadtest 프로필)용 느린 TMDB 서버
+ * 모든 요청에 지정한 시간만큼 늦게 고정된 영화 목록/상세 정보를 응답합니다.
+ * 애플리케이션의 Tomcat 스레드를 쓰지 않도록 별도 포트의 서버(요청마다 가상 스레드)로 실행합니다.
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+public class LoadTestTmdbStub {
+
+    private static final String MOVIE_JSON =
+            "{\"id\":%d,\"title\":\"부하 테스트 영화 %d\",\"original_title\":\"Load Test Movie %d\"," +
+                    "\"overview\":\"stub\",\"poster_path\":null,\"release_date\":\"2024-01-01\"," +
+                    "\"vote_average\":7.0,\"popularity\":1.0}";
+
+    @Value("${loadtest.tmdb-stub.port:18089}")
+    private int port;
+
+    // TMDB 응답 지연 시간
+    @Value("${loadtest.tmdb-stub.delay:300ms}")
+    private Duration delay;
+
+    private final AtomicLong requestCount = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() throws IOException {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 1024);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+
+        log.info("Load test TMDB stub started on port {} (delay {})", port, delay);
+    }
+
+    @PreDestroy
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+
+        log.info("Load test TMDB stub handled {} requests", requestCount.get());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        String body = path.matches("/movie/\\d+") ? detailJson(path) : listJson();
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String detailJson(String path) {
+        long id = Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+        return MOVIE_JSON.formatted(id, id, id);
+    }
+
+    private static String listJson() {
+        StringBuilder results = new StringBuilder();
+
+        for (long id = 1; id <= 20; id++) {
+            if (id > 1) {
+                results.append(',');
+            }
+            results.append(MOVIE_JSON.formatted(id, id, id));
+        }
+
+        return "{\"page\":1,\"results\":[" + results + "],\"total_pages\":1,\"total_results\":20}";
+    }
+}
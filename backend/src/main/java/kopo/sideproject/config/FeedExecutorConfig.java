@@ -0,0 +1,38 @@
+package kopo.sideproject.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class FeedExecutorConfig {
+
+    @Value("${feed.dispatch.pool-size:2}")
+    private int poolSize;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * 새 리뷰를 팔로워 피드에 전달하는 작업을 요청 스레드와 분리하여 실행하기 위한 스레드 풀
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService feedDispatchExecutor() {
+        // 가상 스레드 모드에서는 작업마다 가상 스레드를 만들고 동시 실행 수만 poolSize 로 제한
+        if (virtualThreads) {
+            return new LimitedVirtualThreadExecutor("feed-dispatch-", poolSize, Integer.MAX_VALUE);
+        }
+
+        AtomicInteger seq = new AtomicInteger();
+
+        return Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "feed-dispatch-" + seq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
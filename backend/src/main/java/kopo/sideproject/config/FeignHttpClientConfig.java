@@ -0,0 +1,79 @@
+package kopo.sideproject.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Feign 클라이언트(TMDB, KOFIC)가 사용하는 Apache HttpClient 5 커넥션 풀 설정
+ * 클라이언트마다 별도의 풀을 두어 한쪽 API 가 느려져도 다른 쪽 커넥션을 빼앗지 않으며,
+ * 풀 상태는 httpcomponents.httpclient.pool.* 지표(pool 태그 = 클라이언트 이름)로 확인할 수 있습니다.
+ * 응답 압축(gzip, deflate) 해제는 HttpClient 가 기본으로 처리합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class FeignHttpClientConfig {
+
+    private final MeterRegistry meterRegistry;
+
+    // TMDB 로 동시에 열어 둘 최대 커넥션 수 (호스트가 하나이므로 호스트별 최대와 같음)
+    @Value("${tmdb.feign.max-connections:200}")
+    private int tmdbMaxConnections;
+
+    @Value("${tmdb.feign.max-connections-per-route:200}")
+    private int tmdbMaxConnectionsPerRoute;
+
+    @Value("${kofic.feign.max-connections:20}")
+    private int koficMaxConnections;
+
+    @Value("${kofic.feign.max-connections-per-route:20}")
+    private int koficMaxConnectionsPerRoute;
+
+    // 커넥션을 재사용할 최대 시간 / 유휴 커넥션을 정리하는 기준 시간
+    @Value("${feign.pool.time-to-live:5m}")
+    private Duration timeToLive;
+
+    @Value("${feign.pool.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient tmdbHttpClient() {
+        return pooledHttpClient("tmdb-api", tmdbMaxConnections, tmdbMaxConnectionsPerRoute);
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient koficHttpClient() {
+        return pooledHttpClient("kofic-api", koficMaxConnections, koficMaxConnectionsPerRoute);
+    }
+
+    private CloseableHttpClient pooledHttpClient(String name, int maxConnections, int maxConnectionsPerRoute) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setTimeToLive(TimeValue.ofMilliseconds(timeToLive.toMillis()))
+                        // 서버가 먼저 끊은 keep-alive 커넥션을 재사용하기 전에 확인
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(maxIdleTime.toMillis()))
+                .build();
+    }
+}
@@ -1,17 +1,35 @@
 package kopo.sideproject.config;
 
+import feign.Client;
+import feign.Request;
 import feign.RequestInterceptor;
+import feign.hc5.ApacheHttp5Client;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import feign.RequestTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 public class KoficFeignConfig {
 
     @Value("${kofic.api.key}")
     private String koficApiKey;
 
+    // KOFIC 연결 / 응답 대기 시간
+    @Value("${kofic.feign.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${kofic.feign.read-timeout:10s}")
+    private Duration readTimeout;
+
     @Bean
     public RequestInterceptor koficRequestInterceptor() {
         return new RequestInterceptor() {
@@ -22,4 +40,21 @@ public class KoficFeignConfig {
             }
         };
     }
+
+    @Bean
+    public Request.Options koficRequestOptions() {
+        return new Request.Options(connectTimeout.toMillis(), TimeUnit.MILLISECONDS,
+                readTimeout.toMillis(), TimeUnit.MILLISECONDS, true);
+    }
+
+    /**
+     * FeignHttpClientConfig 의 커넥션 풀을 사용하고, 서킷 브레이커 / 벌크헤드 / 재시도를 적용한 Feign 클라이언트
+     */
+    @Bean
+    public Client koficFeignClient(@Qualifier("koficHttpClient") CloseableHttpClient koficHttpClient,
+                               CircuitBreakerRegistry circuitBreakerRegistry, RetryRegistry retryRegistry,
+                               BulkheadRegistry bulkheadRegistry) {
+        return new ResilientFeignClient(new ApacheHttp5Client(koficHttpClient), "kofic",
+                circuitBreakerRegistry, retryRegistry, bulkheadRegistry, url -> "boxoffice");
+    }
 }
@@ -0,0 +1,86 @@
+package kopo.sideproject.config;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 작업마다 가상 스레드를 만들되, 동시에 실행되는 작업 수를 Semaphore 로 제한하는 실행기
+ * 허용 수를 넘는 작업은 가상 스레드에서 대기하므로 OS 스레드를 점유하지 않으며, 대기 중인 작업이 maxQueued 를 넘으면 거부합니다.
+ */
+final class LimitedVirtualThreadExecutor extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+
+    // 실행 중이거나 대기 중인 작업 수의 상한 (maxConcurrency + maxQueued)
+    private final long maxPending;
+    private final AtomicInteger pending = new AtomicInteger();
+
+    LimitedVirtualThreadExecutor(String namePrefix, int maxConcurrency, int maxQueued) {
+        this.delegate = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix, 1).factory());
+        this.permits = new Semaphore(maxConcurrency);
+        this.maxPending = (long) maxConcurrency + maxQueued;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            throw new RejectedExecutionException("Too many pending tasks (limit " + maxPending + ")");
+        }
+
+        try {
+            delegate.execute(() -> {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    // 종료(shutdownNow) 중에는 대기 중인 작업을 실행하지 않음
+                    pending.decrementAndGet();
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                try {
+                    command.run();
+                } finally {
+                    permits.release();
+                    pending.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            throw e;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
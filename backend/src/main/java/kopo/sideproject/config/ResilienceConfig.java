@@ -0,0 +1,110 @@
+package kopo.sideproject.config;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import kopo.sideproject.util.UpstreamErrorUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 외부 API(TMDB, KOFIC) 호출에 사용하는 서킷 브레이커 / 벌크헤드 / 재시도 설정
+ * 상태와 호출 결과는 resilience4j.circuitbreaker.*, resilience4j.bulkhead.*, resilience4j.retry.* 지표로 확인할 수 있습니다.
+ */
+@Configuration
+public class ResilienceConfig {
+
+    // 최근 호출 중 실패(또는 느린 호출) 비율이 이 값(%) 이상이면 서킷을 엶
+    @Value("${resilience.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${resilience.circuit-breaker.slow-call-duration:3s}")
+    private Duration slowCallDuration;
+
+    @Value("${resilience.circuit-breaker.sliding-window-size:50}")
+    private int slidingWindowSize;
+
+    @Value("${resilience.circuit-breaker.minimum-calls:20}")
+    private int minimumCalls;
+
+    // 서킷이 열린 뒤 다시 시험 호출을 허용하기까지의 시간
+    @Value("${resilience.circuit-breaker.open-duration:30s}")
+    private Duration openDuration;
+
+    // API 종류별 최대 동시 호출 수 (넘으면 기다리지 않고 바로 실패)
+    @Value("${resilience.bulkhead.max-concurrent-calls:50}")
+    private int maxConcurrentCalls;
+
+    @Value("${resilience.bulkhead.max-wait:100ms}")
+    private Duration bulkheadMaxWait;
+
+    // GET 요청 재시도 (첫 호출 포함 최대 횟수, 첫 대기 시간은 지터를 더해 지수적으로 증가)
+    // 응답 대기 시간 초과는 재시도하지 않으므로, 느린 API 에 대한 요청 스레드 점유 시간은 응답 대기 시간(read-timeout)을 넘지 않음
+    @Value("${resilience.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${resilience.retry.initial-backoff:200ms}")
+    private Duration initialBackoff;
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(5)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                // 404 등 요청 자체의 오류와 벌크헤드 초과는 API 장애로 보지 않음
+                .recordException(UpstreamErrorUtil::isUnavailable)
+                .ignoreExceptions(BulkheadFullException.class)
+                .build());
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        return registry;
+    }
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(MeterRegistry meterRegistry) {
+        BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(bulkheadMaxWait)
+                .build());
+
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+
+        return registry;
+    }
+
+    @Bean
+    public RetryRegistry retryRegistry(MeterRegistry meterRegistry) {
+        RetryRegistry registry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(maxAttempts)
+                // 여러 서버가 같은 간격으로 다시 호출하지 않도록 대기 시간에 ±50% 지터 적용
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(initialBackoff, 2.0, 0.5))
+                .retryOnException(e -> UpstreamErrorUtil.isUnavailable(e) && !UpstreamErrorUtil.isReadTimeout(e))
+                // 서킷이 열려 있거나 벌크헤드가 가득 찬 경우에는 재시도해도 소용없음
+                .ignoreExceptions(CallNotPermittedException.class, BulkheadFullException.class)
+                .build());
+
+        TaggedRetryMetrics.ofRetryRegistry(registry).bindTo(meterRegistry);
+
+        return registry;
+    }
+}
@@ -0,0 +1,95 @@
+package kopo.sideproject.config;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.functions.CheckedSupplier;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import kopo.sideproject.util.UpstreamErrorUtil;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * 외부 API 호출에 재시도(GET 만) => 서킷 브레이커 => 벌크헤드(API 종류별) 순서로 적용하는 Feign 클라이언트
+ * 5xx/429 응답도 실패로 기록하며, 재시도 후에도 실패하면 마지막 응답을 그대로 돌려주어 기존처럼 FeignException 이 발생합니다.
+ */
+public class ResilientFeignClient implements Client {
+
+    private final Client delegate;
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    // 요청 URL => API 종류 (벌크헤드 이름에 사용)
+    private final Function<String, String> endpointFamily;
+
+    public ResilientFeignClient(Client delegate, String name, CircuitBreakerRegistry circuitBreakerRegistry,
+                                RetryRegistry retryRegistry, BulkheadRegistry bulkheadRegistry,
+                                Function<String, String> endpointFamily) {
+        this.delegate = delegate;
+        this.name = name;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+        this.retry = retryRegistry.retry(name);
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.endpointFamily = endpointFamily;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name + "-" + endpointFamily.apply(request.url()));
+
+        CheckedSupplier<Response> call = () -> checkStatus(delegate.execute(request, options));
+        call = Bulkhead.decorateCheckedSupplier(bulkhead, call);
+        call = CircuitBreaker.decorateCheckedSupplier(circuitBreaker, call);
+
+        // 같은 요청을 다시 보내도 안전한 GET 만 재시도
+        if (request.httpMethod() == Request.HttpMethod.GET) {
+            call = Retry.decorateCheckedSupplier(retry, call);
+        }
+
+        try {
+            return call.get();
+        } catch (UnavailableResponseException e) {
+            return e.response;
+        } catch (IOException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * 5xx/429 응답은 본문을 읽어 커넥션을 풀에 돌려준 뒤 예외로 바꿔서, 서킷 브레이커와 재시도가 실패로 처리하게 합니다.
+     */
+    private static Response checkStatus(Response response) throws IOException {
+        if (!UpstreamErrorUtil.isUnavailableStatus(response.status())) {
+            return response;
+        }
+
+        byte[] body;
+
+        try (response) {
+            body = response.body() != null ? Util.toByteArray(response.body().asInputStream()) : new byte[0];
+        }
+
+        throw new UnavailableResponseException(response.toBuilder().body(body).build());
+    }
+
+    private static class UnavailableResponseException extends IOException {
+
+        private final transient Response response;
+
+        UnavailableResponseException(Response response) {
+            super("Upstream responded " + response.status());
+            this.response = response;
+        }
+    }
+}
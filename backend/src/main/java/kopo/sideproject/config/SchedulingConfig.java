@@ -0,0 +1,29 @@
+package kopo.sideproject.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 작업 실행기 (taskScheduler)
+ * Spring Boot 기본 스케줄러는 스레드가 1개라서 카탈로그 동기화, 유사도 전체 재계산, 상세 정보 갱신처럼 오래 걸리는 작업이
+ * 도는 동안 박스오피스 스냅샷, 자동완성 색인, 인기 순위 재계산이 밀리므로 여러 스레드로 실행합니다.
+ * (가상 스레드 모드에서는 Spring Boot 기본 스케줄러가 작업마다 가상 스레드를 사용하므로 등록하지 않음)
+ */
+@Configuration
+public class SchedulingConfig {
+
+    @Bean(name = "taskScheduler")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder,
+                                                 @Value("${scheduling.pool-size:4}") int poolSize) {
+        return builder
+                .poolSize(poolSize)
+                .threadNamePrefix("scheduling-")
+                .build();
+    }
+}
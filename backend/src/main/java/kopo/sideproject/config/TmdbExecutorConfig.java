@@ -0,0 +1,50 @@
+package kopo.sideproject.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class TmdbExecutorConfig {
+
+    // TMDB 동시 호출 수 (TMDB rate limit 을 넘지 않도록 제한)
+    @Value("${tmdb.lookup.pool-size:10}")
+    private int poolSize;
+
+    // 실행을 기다릴 수 있는 최대 작업 수 (초과 시 RejectedExecutionException, TMDB 가 느릴 때 작업이 끝없이 쌓이지 않도록)
+    @Value("${tmdb.lookup.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * 박스오피스 조합 시 영화별 TMDB 검색을 병렬로 실행하기 위한 스레드 풀
+     * 동시 실행 수가 poolSize 로 제한되어 TMDB 로의 동시 요청 수가 poolSize 를 넘지 않습니다.
+     * 대기 중인 작업이 queueCapacity 를 넘으면 새 작업은 거부됩니다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService tmdbLookupExecutor() {
+        // 가상 스레드 모드에서는 작업마다 가상 스레드를 만들고 동시 실행 수만 poolSize 로 제한
+        if (virtualThreads) {
+            return new LimitedVirtualThreadExecutor("tmdb-lookup-", poolSize, queueCapacity);
+        }
+
+        AtomicInteger seq = new AtomicInteger();
+
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "tmdb-lookup-" + seq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -1,20 +1,70 @@
 package kopo.sideproject.config;
 
+import feign.Client;
+import feign.Request;
 import feign.RequestInterceptor;
+import feign.hc5.ApacheHttp5Client;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
 @Configuration
 public class TmdbFeignConfig {
 
+    // /movie/{tmdbId} (상세 조회)
+    private static final Pattern MOVIE_DETAIL_PATH = Pattern.compile("/movie/\\d+");
+
     @Value("${tmdb.api.key}")
     private String tmdbApiKey;
 
+    // TMDB 연결 / 응답 대기 시간
+    @Value("${tmdb.feign.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${tmdb.feign.read-timeout:5s}")
+    private Duration readTimeout;
+
     @Bean
     public RequestInterceptor requestInterceptor() {
         return template -> {
             template.query("api_key", tmdbApiKey);
         };
     }
+
+    @Bean
+    public Request.Options tmdbRequestOptions() {
+        return new Request.Options(connectTimeout.toMillis(), TimeUnit.MILLISECONDS,
+                readTimeout.toMillis(), TimeUnit.MILLISECONDS, true);
+    }
+
+    /**
+     * FeignHttpClientConfig 의 커넥션 풀을 사용하고, 서킷 브레이커 / 벌크헤드 / 재시도를 적용한 Feign 클라이언트
+     */
+    @Bean
+    public Client tmdbFeignClient(@Qualifier("tmdbHttpClient") CloseableHttpClient tmdbHttpClient,
+                               CircuitBreakerRegistry circuitBreakerRegistry, RetryRegistry retryRegistry,
+                               BulkheadRegistry bulkheadRegistry) {
+        return new ResilientFeignClient(new ApacheHttp5Client(tmdbHttpClient), "tmdb",
+                circuitBreakerRegistry, retryRegistry, bulkheadRegistry, TmdbFeignConfig::endpointFamily);
+    }
+
+    /**
+     * TMDB 요청 URL 의 API 종류 (search, detail, list) - 종류별로 벌크헤드를 따로 사용
+     */
+    public static String endpointFamily(String url) {
+        if (url.contains("/search/")) {
+            return "search";
+        }
+
+        return MOVIE_DETAIL_PATH.matcher(url).find() ? "detail" : "list";
+    }
 }
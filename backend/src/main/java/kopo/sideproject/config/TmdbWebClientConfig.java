@@ -0,0 +1,83 @@
+package kopo.sideproject.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 논블로킹 TMDB 클라이언트(WebClient) 설정 (tmdb.client=webclient 일 때만 사용)
+ * 응답을 기다리는 동안 스레드를 점유하지 않으므로, 커넥션 풀 크기만큼의 TMDB 호출을 적은 수의 이벤트 루프 스레드로 처리합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tmdb.client", havingValue = "webclient")
+public class TmdbWebClientConfig {
+
+    @Value("${tmdb.api.url}")
+    private String tmdbApiUrl;
+
+    @Value("${tmdb.api.key}")
+    private String tmdbApiKey;
+
+    // TMDB 로 동시에 열어 둘 최대 커넥션 수
+    @Value("${tmdb.webclient.max-connections:500}")
+    private int maxConnections;
+
+    // 커넥션을 기다리는 최대 요청 수 / 대기 시간
+    @Value("${tmdb.webclient.pending-acquire-max-count:10000}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${tmdb.webclient.pending-acquire-timeout:5s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${tmdb.webclient.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${tmdb.webclient.response-timeout:5s}")
+    private Duration responseTimeout;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider tmdbConnectionProvider() {
+        return ConnectionProvider.builder("tmdb")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(Duration.ofSeconds(30)) // TMDB 가 먼저 끊은 유휴 커넥션을 재사용하지 않도록
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient tmdbWebClient(WebClient.Builder builder, ConnectionProvider tmdbConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(tmdbConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout)
+                .compress(true);
+
+        // 모든 요청에 api_key 파라미터 추가 (Feign 의 TmdbFeignConfig 와 동일)
+        ExchangeFilterFunction apiKeyFilter = (request, next) -> next.exchange(ClientRequest.from(request)
+                .url(UriComponentsBuilder.fromUri(request.url())
+                        .queryParam("api_key", tmdbApiKey)
+                        .build(true)
+                        .toUri())
+                .build());
+
+        return builder
+                .baseUrl(tmdbApiUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(apiKeyFilter)
+                // 상세 정보(출연진, 이미지 포함) 응답이 기본 버퍼(256KB)보다 클 수 있음
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(2 * 1024 * 1024))
+                .build();
+    }
+}
@@ -1,43 +1,81 @@
 package kopo.sideproject.controller;
 
-import kopo.sideproject.dto.MsgDTO;
-import kopo.sideproject.service.impl.MovieApiService;
+import kopo.sideproject.dto.IngestionResultDTO;
+import kopo.sideproject.service.impl.MovieIngestionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @RequestMapping("/load")
 @RestController
 @RequiredArgsConstructor
 public class DataLoadController {
 
-    private final MovieApiService movieApiService;
+    private final MovieIngestionService movieIngestionService;
+
+    /**
+     * TMDB 목록(now-playing, popular, upcoming)의 모든 페이지를 MOVIE 테이블에 수집합니다.
+     *
+     * @param listName 수집할 TMDB 목록 이름
+     * @return 저장/갱신 건수와 소요 시간
+     */
+    @GetMapping("/{listName}")
+    public ResponseEntity<IngestionResultDTO> uploadMovieList(@PathVariable("listName") String listName) {
+        log.info(this.getClass().getName() + ".uploadMovieList Start!");
+        log.info("listName: " + listName);
+
+        MovieIngestionService.TmdbMovieList list;
 
-    @GetMapping("/now-playing")
-    public ResponseEntity<MsgDTO> uploadNowPlaying() throws Exception{
-        log.info(this.getClass().getName() + ".uploadNowPlaying Start!");
+        try {
+            list = MovieIngestionService.TmdbMovieList.fromListName(listName);
+        } catch (IllegalArgumentException e) {
+            log.warn(e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
 
-        MsgDTO dto;
+        IngestionResultDTO rDTO;
 
         try {
-            movieApiService.saveNowPlayingMovies(1);
+            rDTO = movieIngestionService.ingestAll(list);
+        } catch (Exception e) {
+            log.error("Error in uploadMovieList!", e);
+            return ResponseEntity.internalServerError().build();
+        }
+
+        log.info(this.getClass().getName() + ".uploadMovieList End!");
 
-                        dto = MsgDTO.builder().msg("TMDB 현재 상영작 정보 저장 성공!").build();
-        }catch (Exception e){
-            log.error("Error in uploadNowPlaying!", e);
+        return ResponseEntity.ok(rDTO);
+    }
 
-            dto = MsgDTO.builder().msg("TMDB 영화 정보 로드 실패: " + e.getMessage()).build();
+    /**
+     * 모든 TMDB 목록을 차례대로 수집합니다.
+     */
+    @GetMapping("/all")
+    public ResponseEntity<List<IngestionResultDTO>> uploadAll() {
+        log.info(this.getClass().getName() + ".uploadAll Start!");
 
-            return ResponseEntity.internalServerError().body(dto);
+        List<IngestionResultDTO> results = new ArrayList<>();
+
+        try {
+            for (MovieIngestionService.TmdbMovieList list : MovieIngestionService.TmdbMovieList.values()) {
+                results.add(movieIngestionService.ingestAll(list));
+            }
+        } catch (Exception e) {
+            log.error("Error in uploadAll!", e);
+            return ResponseEntity.internalServerError().body(results);
         }
 
-        log.info(this.getClass().getName() + ".uploadNowPlaying End!");
+        log.info(this.getClass().getName() + ".uploadAll End!");
 
-        return ResponseEntity.ok(dto);
+        return ResponseEntity.ok(results);
     }
 
 }
@@ -0,0 +1,42 @@
+package kopo.sideproject.controller;
+
+import kopo.sideproject.dto.FeedPageDTO;
+import kopo.sideproject.service.IFeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.Principal;
+
+@Slf4j
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class FeedController {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final IFeedService feedService;
+
+    // 팔로우한 사용자들의 리뷰 피드 조회
+    @GetMapping("/feed")
+    public ResponseEntity<FeedPageDTO> getFeed(@RequestParam(value = "cursor", required = false) Long cursor,
+                                               @RequestParam(value = "size", defaultValue = "20") int size,
+                                               Principal principal) {
+        log.info(this.getClass().getSimpleName() + ".getFeed Start!");
+
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        FeedPageDTO rDTO = feedService.getFeed(principal.getName(), cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+
+        log.info(this.getClass().getSimpleName() + ".getFeed End!");
+
+        return ResponseEntity.ok(rDTO);
+    }
+}
@@ -1,6 +1,7 @@
 package kopo.sideproject.controller;
 
 import kopo.sideproject.dto.FollowDTO;
+import kopo.sideproject.dto.FollowPageDTO;
 import kopo.sideproject.service.IFollowService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,14 +9,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
-import java.util.ArrayList;
-import java.util.List;
 
 @Slf4j
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
 public class FollowController {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final IFollowService followService;
 
     // 팔로우하기
@@ -34,15 +35,19 @@ public class FollowController {
 
     // 특정 유저의 팔로워 목록 조회
     @GetMapping("/users/{userId}/followers")
-    public ResponseEntity<List<FollowDTO>> getFollowers(@PathVariable("userId") Long userId) {
-        List<FollowDTO> followers = followService.getFollowerList(userId);
+    public ResponseEntity<FollowPageDTO> getFollowers(@PathVariable("userId") Long userId,
+                                                      @RequestParam(value = "cursor", required = false) Long cursor,
+                                                      @RequestParam(value = "size", defaultValue = "20") int size) {
+        FollowPageDTO followers = followService.getFollowerList(userId, cursor, pageSize(size));
         return ResponseEntity.ok(followers);
     }
 
     // 특정 유저의 팔로잉 목록 조회
     @GetMapping("/users/{userId}/following")
-    public ResponseEntity<List<FollowDTO>> getFollowing(@PathVariable("userId") Long userId) {
-        List<FollowDTO> following = followService.getFollowingList(userId);
+    public ResponseEntity<FollowPageDTO> getFollowing(@PathVariable("userId") Long userId,
+                                                      @RequestParam(value = "cursor", required = false) Long cursor,
+                                                      @RequestParam(value = "size", defaultValue = "20") int size) {
+        FollowPageDTO following = followService.getFollowingList(userId, cursor, pageSize(size));
         return ResponseEntity.ok(following);
     }
 
@@ -62,4 +67,9 @@ public class FollowController {
         FollowDTO followCounts = followService.getFollowCounts(userId);
         return ResponseEntity.ok(followCounts);
     }
+
+    // 페이지 크기를 1 ~ MAX_PAGE_SIZE 로 제한
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
 }
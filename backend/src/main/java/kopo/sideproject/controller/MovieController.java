@@ -1,17 +1,24 @@
 package kopo.sideproject.controller;
 
+import kopo.sideproject.dto.BoxOfficeSnapshotDTO;
+import kopo.sideproject.dto.MovieSuggestionDTO;
+import kopo.sideproject.dto.RatingStatsDTO;
 import kopo.sideproject.dto.TmdbMovieDetailDTO;
 import kopo.sideproject.dto.TmdbResponseDTO;
 import kopo.sideproject.repository.entity.MovieEntity;
 import kopo.sideproject.service.IMovieApiService;
+import kopo.sideproject.service.IMovieRatingStatsService;
+import kopo.sideproject.service.ITmdbGatewayService;
+import kopo.sideproject.service.ITrendingService;
 import kopo.sideproject.service.impl.MovieApiService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
-import kopo.sideproject.service.impl.KoficService;
-import kopo.sideproject.dto.TmdbResponseDTO;
+import kopo.sideproject.service.impl.BoxOfficeSnapshotService;
+import kopo.sideproject.service.impl.MovieSuggestService;
 
 import java.util.List;
 
@@ -22,20 +29,39 @@ import java.util.List;
 public class MovieController {
 
     private final MovieApiService movieApiService;
-    private final KoficService koficService; // KoficService 주입
+    private final ITmdbGatewayService tmdbGatewayService; // TMDB 조회 (tmdb.client=feign|webclient)
+    private final BoxOfficeSnapshotService boxOfficeSnapshotService; // 미리 만들어 둔 박스오피스 스냅샷
+    private final IMovieRatingStatsService movieRatingStatsService; // 영화별 별점 집계
+    private final MovieSuggestService movieSuggestService; // 제목 자동완성
+    private final ITrendingService trendingService; // 리뷰 기준 인기 급상승 영화
+
+    // 자동완성 최대 결과 수
+    private static final int MAX_SUGGEST_LIMIT = 10;
 
     /**
-     * KOFIC API를 통해 일별 박스오피스 순위를 조회하고, 각 영화의 상세 정보는 TMDB에서 가져와 조합된 데이터를 반환합니다.
+     * KOFIC 일별 박스오피스 순위와 TMDB 정보를 조합한 데이터를 반환합니다.
+     * 매일 미리 만들어 둔 스냅샷을 메모리에서 바로 반환합니다.
      * @return 조합된 영화 목록 데이터
      */
     @GetMapping("/box-office")
     public ResponseEntity<List<TmdbResponseDTO.MovieResultDto>> getBoxOffice() {
         log.info(this.getClass().getName() + ".getBoxOffice Start!");
-        List<TmdbResponseDTO.MovieResultDto> movieList = koficService.getDailyBoxOfficeAndMergeWithTmdb();
+        List<TmdbResponseDTO.MovieResultDto> movieList = boxOfficeSnapshotService.getSnapshot().movies();
         log.info(this.getClass().getName() + ".getBoxOffice End!");
         return ResponseEntity.ok(movieList);
     }
 
+    /**
+     * 현재 제공 중인 박스오피스 스냅샷의 기준일, 생성 소요 시간과 영화 목록을 반환합니다.
+     */
+    @GetMapping("/box-office/snapshot")
+    public ResponseEntity<BoxOfficeSnapshotDTO> getBoxOfficeSnapshot() {
+        log.info(this.getClass().getName() + ".getBoxOfficeSnapshot Start!");
+        BoxOfficeSnapshotDTO snapshot = boxOfficeSnapshotService.getSnapshot();
+        log.info(this.getClass().getName() + ".getBoxOfficeSnapshot End!");
+        return ResponseEntity.ok(snapshot);
+    }
+
     /**
      *
      * 데이터베이스에 저장된 현재 상영 중인 영화 목록을 조회합니다.
@@ -43,16 +69,15 @@ public class MovieController {
      * @return 영화 목록 JSON 데이터
      */
     @GetMapping("/now-playing")
-    public ResponseEntity<TmdbResponseDTO> getNowPlaying(@RequestParam(defaultValue = "1") int page) {
+    public Mono<ResponseEntity<TmdbResponseDTO>> getNowPlaying(@RequestParam(defaultValue = "1") int page) {
 
         log.info(this.getClass().getName() + ".getNowPlayingMovies Start!");
 
-        // 서비스 호출하여 영화 정보 받아오기
-        TmdbResponseDTO nowPlayingMovies = movieApiService.getNowPlayingMoviesFromTMDB(page);
-
-        log.info(this.getClass().getName() + ".getNowPlayingMovies End!");
-
-        return ResponseEntity.ok(nowPlayingMovies);
+        // 서비스 호출하여 영화 정보 받아오기 (tmdb.client=webclient 이면 응답을 기다리는 동안 스레드를 점유하지 않음)
+        return tmdbGatewayService.getNowPlayingMovies(page)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.ok().build())
+                .doOnSuccess(response -> log.info(this.getClass().getName() + ".getNowPlayingMovies End!"));
     }
 
     @GetMapping("/{movieId}")
@@ -73,49 +98,102 @@ public class MovieController {
         }
     }
 
+    /**
+     * 영화의 리뷰 수, 평균 별점, 0.5점 단위 별점 분포를 반환합니다.
+     * 리뷰 작성/수정/삭제 시 미리 집계해 둔 값을 읽으므로 리뷰 수와 관계없이 한 번의 조회로 응답합니다.
+     */
+    @GetMapping("/{tmdbId}/rating-stats")
+    public ResponseEntity<RatingStatsDTO> getRatingStats(@PathVariable("tmdbId") Long tmdbId) {
+        log.info(this.getClass().getName() + ".getRatingStats Start!");
+        log.info("Requested tmdbId: " + tmdbId);
+
+        RatingStatsDTO rDTO = movieRatingStatsService.getRatingStats(tmdbId);
+
+        log.info(this.getClass().getName() + ".getRatingStats End!");
+
+        return ResponseEntity.ok(rDTO);
+    }
+
     @GetMapping("/popular")
-    public ResponseEntity<TmdbResponseDTO> getPopularMovies(@RequestParam(defaultValue = "1") int page) {
+    public Mono<ResponseEntity<TmdbResponseDTO>> getPopularMovies(@RequestParam(defaultValue = "1") int page) {
         log.info(this.getClass().getName() + ".getPopularMovies Start!");
 
         // 서비스 호출하여 인기 영화 정보 받아오기
-        TmdbResponseDTO popularMovies = movieApiService.getPopularMovies(page);
+        return tmdbGatewayService.getPopularMovies(page)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.ok().build())
+                .doOnSuccess(response -> log.info(this.getClass().getName() + ".getPopularMovies End!"));
+    }
+
+    /**
+     * 우리 서비스에서 최근 리뷰가 많은 영화를 반환합니다.
+     * 리뷰가 바뀔 때마다 미리 계산해 둔 Redis 정렬 집합의 상위 N개만 읽습니다.
+     *
+     * @param window 집계 기간 (1h, 24h, 7d)
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<TmdbResponseDTO.MovieResultDto>> getTrendingMovies(@RequestParam(defaultValue = "24h") String window,
+                                                                                  @RequestParam(defaultValue = "20") int limit) {
+        log.info(this.getClass().getName() + ".getTrendingMovies Start!");
+        log.info("window: " + window + ", limit: " + limit);
+
+        List<TmdbResponseDTO.MovieResultDto> movieList;
+
+        try {
+            movieList = trendingService.getTrendingMovies(window, limit);
+        } catch (IllegalArgumentException e) {
+            log.warn(e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
 
-        log.info(this.getClass().getName() + ".getPopularMovies End!");
+        log.info(this.getClass().getName() + ".getTrendingMovies End!");
 
-        return ResponseEntity.ok(popularMovies);
+        return ResponseEntity.ok(movieList);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<TmdbResponseDTO> searchMovies(@RequestParam("query") String query, @RequestParam(defaultValue = "1") int page) {
+    public Mono<ResponseEntity<TmdbResponseDTO>> searchMovies(@RequestParam("query") String query, @RequestParam(defaultValue = "1") int page) {
         log.info(this.getClass().getName() + ".searchMovies Start!");
         log.info("Requested query: " + query);
 
-        TmdbResponseDTO searchMovies = movieApiService.searchMovies(query, page);
+        return tmdbGatewayService.searchMovies(query, page)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.ok().build())
+                .doOnSuccess(response -> log.info(this.getClass().getName() + ".searchMovies End!"));
+    }
 
-        log.info(this.getClass().getName() + ".searchMovies End!");
+    /**
+     * 입력한 앞부분으로 시작하는 영화 제목을 인기도/리뷰 수 순으로 반환합니다.
+     * 메모리에 만들어 둔 FST 만 조회하며, 초성("ㅇㅂ")이나 입력 중인 글자("어벤ㅈ")도 찾을 수 있습니다.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<MovieSuggestionDTO>> suggestMovies(@RequestParam("prefix") String prefix,
+                                                                  @RequestParam(defaultValue = "10") int limit) {
+        log.info(this.getClass().getName() + ".suggestMovies Start!");
+        log.info("Suggest prefix: " + prefix);
 
-        return ResponseEntity.ok(searchMovies);
+        List<MovieSuggestionDTO> rList = movieSuggestService.suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGEST_LIMIT)));
+
+        log.info(this.getClass().getName() + ".suggestMovies End!");
+        return ResponseEntity.ok(rList);
     }
 
     @GetMapping("/tmdb/{tmdbId}")
-    public ResponseEntity<TmdbMovieDetailDTO> getMovieDetailsFromTMDB(@PathVariable("tmdbId") Long tmdbId) {
+    public Mono<ResponseEntity<TmdbMovieDetailDTO>> getMovieDetailsFromTMDB(@PathVariable("tmdbId") Long tmdbId) {
         log.info(this.getClass().getName() + ".getMovieDetailsFromTMDB Start!");
         log.info("Requested tmdbId: " + tmdbId);
 
-        TmdbMovieDetailDTO rDTO = movieApiService.getMovieDetailsFromTMDB(tmdbId);
-
-        if (rDTO != null) {
-            return ResponseEntity.ok(rDTO);
-        } else {
-            return ResponseEntity.notFound().build();
-        }
+        return tmdbGatewayService.getMovieDetail(tmdbId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/upcoming")
-    public ResponseEntity<TmdbResponseDTO> getUpcomingMovies(@RequestParam(defaultValue = "1") int page) {
+    public Mono<ResponseEntity<TmdbResponseDTO>> getUpcomingMovies(@RequestParam(defaultValue = "1") int page) {
         log.info(this.getClass().getName() + ".getUpcomingMovies Start!");
-        TmdbResponseDTO response = movieApiService.getUpcomingMoviesFromTMDB(page);
-        log.info(this.getClass().getName() + ".getUpcomingMovies End!");
-        return ResponseEntity.ok(response);
+        return tmdbGatewayService.getUpcomingMovies(page)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.ok().build())
+                .doOnSuccess(response -> log.info(this.getClass().getName() + ".getUpcomingMovies End!"));
     }
 }
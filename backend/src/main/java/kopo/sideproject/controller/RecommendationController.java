@@ -0,0 +1,82 @@
+package kopo.sideproject.controller;
+
+import kopo.sideproject.dto.SimilarMovieDTO;
+import kopo.sideproject.dto.TasteMatchDTO;
+import kopo.sideproject.service.IRecommendationService;
+import kopo.sideproject.service.IUserRatingVectorService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class RecommendationController {
+    private static final int MAX_LIMIT = 50;
+
+    private final IRecommendationService recommendationService;
+    private final IUserRatingVectorService userRatingVectorService;
+
+    // 비슷한 영화 조회
+    @GetMapping("/movies/{tmdbId}/similar")
+    public ResponseEntity<List<SimilarMovieDTO>> getSimilarMovies(@PathVariable("tmdbId") Long tmdbId,
+                                                                  @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        log.info(this.getClass().getSimpleName() + ".getSimilarMovies Start!");
+
+        List<SimilarMovieDTO> rList = recommendationService.getSimilarMovies(tmdbId, limit(limit));
+
+        log.info(this.getClass().getSimpleName() + ".getSimilarMovies End!");
+
+        return ResponseEntity.ok(rList);
+    }
+
+    // 로그인한 사용자를 위한 추천 영화 조회
+    @GetMapping("/me/recommendations")
+    public ResponseEntity<List<SimilarMovieDTO>> getRecommendations(@RequestParam(value = "limit", defaultValue = "20") int limit,
+                                                                    Principal principal) {
+        log.info(this.getClass().getSimpleName() + ".getRecommendations Start!");
+
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        List<SimilarMovieDTO> rList = recommendationService.getRecommendations(principal.getName(), limit(limit));
+
+        log.info(this.getClass().getSimpleName() + ".getRecommendations End!");
+
+        return ResponseEntity.ok(rList);
+    }
+
+    // 로그인한 사용자와 다른 사용자의 취향 일치도 조회
+    @GetMapping("/users/{userId}/taste-match")
+    public ResponseEntity<TasteMatchDTO> getTasteMatch(@PathVariable("userId") Long userId, Principal principal) {
+        log.info(this.getClass().getSimpleName() + ".getTasteMatch Start!");
+
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        TasteMatchDTO rDTO;
+
+        try {
+            rDTO = userRatingVectorService.getTasteMatch(principal.getName(), userId);
+        } catch (IllegalArgumentException e) {
+            log.warn(e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+
+        log.info(this.getClass().getSimpleName() + ".getTasteMatch End!");
+
+        return ResponseEntity.ok(rDTO);
+    }
+
+    private static int limit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
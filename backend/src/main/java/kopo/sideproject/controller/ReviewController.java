@@ -1,6 +1,9 @@
 package kopo.sideproject.controller;
 
+import kopo.sideproject.dto.RatingCalendarEntryDTO;
+import kopo.sideproject.dto.RatingMonthSummaryDTO;
 import kopo.sideproject.dto.ReviewDTO;
+import kopo.sideproject.dto.ReviewPageDTO;
 import kopo.sideproject.dto.ReviewRequestDTO;
 import kopo.sideproject.dto.UserInfoDTO;
 import kopo.sideproject.repository.entity.ReviewEntity;
@@ -12,10 +15,13 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.security.Principal;
+import java.time.DateTimeException;
+import java.time.YearMonth;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @RequestMapping("/api")
@@ -23,19 +29,52 @@ import java.util.Map;
 @RestController
 public class ReviewController {
 
+    private static final int MAX_REVIEW_PAGE_SIZE = 100;
+
     private final IReviewService reviewService;
     private final UserInfoService userInfoService;
 
     @GetMapping("/movies/{movieId}/reviews")
-    public ResponseEntity<List<ReviewDTO>> getReviewsForMovies(@PathVariable("movieId") Long movieId) {
+    public ResponseEntity<ReviewPageDTO> getReviewsForMovies(@PathVariable("movieId") Long movieId,
+                                                             @RequestParam(value = "sort", defaultValue = "newest") String sort,
+                                                             @RequestParam(value = "cursor", required = false) String cursor,
+                                                             @RequestParam(value = "size", defaultValue = "20") int size) {
         log.info(this.getClass().getSimpleName(), "getReviewsForMovies Start!");
         log.info("Requested movieId: " + movieId);
 
-        List<ReviewDTO> dtoList = this.reviewService.getReviewsForMovies(movieId);
+        int pageSize = Math.max(1, Math.min(size, MAX_REVIEW_PAGE_SIZE));
+
+        ReviewPageDTO rDTO;
+
+        try {
+            rDTO = this.reviewService.getReviewsForMovies(movieId, sort, cursor, pageSize);
+        } catch (IllegalArgumentException e) {
+            // 알 수 없는 정렬 방식 또는 잘못된 커서
+            log.warn(e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
 
         log.info(this.getClass().getSimpleName(), "getReviewsForMovies End!");
 
-        return ResponseEntity.ok(dtoList);
+        return ResponseEntity.ok(rDTO);
+    }
+
+    @GetMapping("/movies/{movieId}/reviews/me")
+    public ResponseEntity<ReviewDTO> getMyReviewForMovie(@PathVariable("movieId") Long movieId, Principal principal) {
+        log.info(this.getClass().getSimpleName(), "getMyReviewForMovie Start!");
+        log.info("Requested movieId: " + movieId);
+
+        // 로그인하지 않았거나 아직 리뷰를 남기지 않은 경우 내용 없이 응답
+        if (principal == null) {
+            return ResponseEntity.noContent().build();
+        }
+
+        Optional<ReviewDTO> rDTO = this.reviewService.getMyReviewForMovie(movieId, principal.getName());
+
+        log.info(this.getClass().getSimpleName(), "getMyReviewForMovie End!");
+
+        return rDTO.map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
     }
 
     @PostMapping("/reviews")
@@ -126,17 +165,51 @@ public class ReviewController {
     }
 
     @GetMapping("/user/{userId}/ratings-calendar")
-    public ResponseEntity<Map<String, List<ReviewDTO>>> getRatingsByUserId(@PathVariable("userId") Long userId) {
+    public ResponseEntity<Map<String, List<RatingCalendarEntryDTO>>> getRatingsByUserId(@PathVariable("userId") Long userId,
+                                                                                        @RequestParam(value = "year", required = false) Integer year,
+                                                                                        @RequestParam(value = "month", required = false) Integer month) {
         log.info(this.getClass().getSimpleName(), "getRatingsByUserId Start!");
-        log.info("userId: " + userId);
+        log.info("userId: " + userId + ", year: " + year + ", month: " + month);
 
-        Map<String, List<ReviewDTO>> calendarData = reviewService.getRatingsCalender(userId);
+        YearMonth yearMonth;
+
+        try {
+            yearMonth = toYearMonth(year, month);
+        } catch (DateTimeException e) {
+            log.warn(e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        Map<String, List<RatingCalendarEntryDTO>> calendarData = reviewService.getRatingsCalender(userId, yearMonth);
 
         log.info(this.getClass().getSimpleName(), "getRatingsByUserId End!");
 
         return ResponseEntity.ok(calendarData);
     }
 
+    @GetMapping("/user/{userId}/ratings-summary")
+    public ResponseEntity<RatingMonthSummaryDTO> getMonthlyRatingSummary(@PathVariable("userId") Long userId,
+                                                                         @RequestParam(value = "year", required = false) Integer year,
+                                                                         @RequestParam(value = "month", required = false) Integer month) {
+        log.info(this.getClass().getSimpleName(), "getMonthlyRatingSummary Start!");
+        log.info("userId: " + userId + ", year: " + year + ", month: " + month);
+
+        YearMonth yearMonth;
+
+        try {
+            yearMonth = toYearMonth(year, month);
+        } catch (DateTimeException e) {
+            log.warn(e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        RatingMonthSummaryDTO rDTO = reviewService.getMonthlyRatingSummary(userId, yearMonth);
+
+        log.info(this.getClass().getSimpleName(), "getMonthlyRatingSummary End!");
+
+        return ResponseEntity.ok(rDTO);
+    }
+
     @GetMapping("/reviews/me")
     public ResponseEntity<List<ReviewDTO>> getMyReviews(Principal principal) throws Exception{
         log.info(this.getClass().getSimpleName(), "getMyReviews Start!");
@@ -153,4 +226,13 @@ public class ReviewController {
 
         return ResponseEntity.ok(dtoList);
     }
+
+    /**
+     * 요청한 연/월을 YearMonth 로 변환합니다. (지정하지 않으면 이번 달)
+     */
+    private YearMonth toYearMonth(Integer year, Integer month) {
+        YearMonth now = YearMonth.now();
+
+        return YearMonth.of(year != null ? year : now.getYear(), month != null ? month : now.getMonthValue());
+    }
 }
@@ -0,0 +1,14 @@
+package kopo.sideproject.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record BoxOfficeSnapshotDTO(
+        String targetDt, // 박스오피스 기준일 (yyyyMMdd)
+        String builtAt, // 스냅샷 생성 시각
+        long buildMillis, // 스냅샷 생성 소요 시간 (밀리초)
+        List<TmdbResponseDTO.MovieResultDto> movies
+) {
+}
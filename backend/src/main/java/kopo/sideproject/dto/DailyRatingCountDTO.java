@@ -0,0 +1,13 @@
+package kopo.sideproject.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 하루 동안 작성한 리뷰 수와 별점 합계 (월별 평가 요약 집계용)
+ */
+public record DailyRatingCountDTO(
+        LocalDate ratedDate,
+        Long reviewCount,
+        Double ratingSum
+) {
+}
@@ -0,0 +1,20 @@
+package kopo.sideproject.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 활동 피드의 한 페이지 (팔로우한 사용자들의 리뷰, 최신순)
+ *
+ * @param reviews    이번 페이지의 리뷰 목록
+ * @param nextCursor 다음 페이지를 요청할 때 전달할 커서 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ */
+@Builder
+public record FeedPageDTO(
+        List<ReviewDTO> reviews,
+        Long nextCursor,
+        boolean hasNext
+) {
+}
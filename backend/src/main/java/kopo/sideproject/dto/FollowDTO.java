@@ -17,6 +17,18 @@ public record FollowDTO(
         Integer followingCount,
 
         // 현재 로그인된 사용자의 팔로우 여부를 담을 떄 사용
-        Boolean isFollowing
+        Boolean isFollowing,
+
+        // 팔로워 / 팔로잉 목록 페이지네이션 커서로 사용 (팔로우 관계 ID)
+        Long followId
 ) {
+    // 팔로워 / 팔로잉 수 JPQL 생성자 프로젝션용 생성자
+    public FollowDTO(long followerCount, long followingCount) {
+        this(null, null, null, null, (int) followerCount, (int) followingCount, null, null);
+    }
+
+    // 팔로워 / 팔로잉 목록 JPQL 생성자 프로젝션용 생성자
+    public FollowDTO(Long followId, Long userId, String email, String nickname, String profileImg) {
+        this(userId, email, nickname, profileImg, null, null, null, followId);
+    }
 }
@@ -0,0 +1,20 @@
+package kopo.sideproject.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 팔로워 / 팔로잉 목록의 한 페이지
+ *
+ * @param users      이번 페이지의 사용자 목록 (최근에 팔로우한 순)
+ * @param nextCursor 다음 페이지를 요청할 때 전달할 커서 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ */
+@Builder
+public record FollowPageDTO(
+        List<FollowDTO> users,
+        Long nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,13 @@
+package kopo.sideproject.dto;
+
+import lombok.Builder;
+
+@Builder
+public record IngestionResultDTO(
+        String list, // 수집한 TMDB 목록 (now-playing, popular, upcoming)
+        int pages, // 처리한 페이지 수
+        int inserted, // 새로 저장된 영화 수
+        int updated, // 정보가 갱신된 영화 수
+        long elapsedMillis // 소요 시간 (밀리초)
+) {
+}
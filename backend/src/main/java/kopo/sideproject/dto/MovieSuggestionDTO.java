@@ -0,0 +1,17 @@
+package kopo.sideproject.dto;
+
+import lombok.Builder;
+
+/**
+ * 검색어 자동완성 항목
+ *
+ * @param tmdbId TMDB 영화 ID
+ */
+@Builder
+public record MovieSuggestionDTO(
+        Long tmdbId,
+        String title,
+        String posterPath,
+        String releaseDate
+) {
+}
@@ -0,0 +1,19 @@
+package kopo.sideproject.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 평가 달력 한 칸에 표시할 리뷰 정보
+ *
+ * @param movieId    TMDB 영화 ID
+ * @param ratedDate  평가한 날짜
+ */
+public record RatingCalendarEntryDTO(
+        Long reviewId,
+        Long movieId,
+        String title,
+        String posterPath,
+        Double rating,
+        LocalDate ratedDate
+) {
+}
@@ -0,0 +1,22 @@
+package kopo.sideproject.dto;
+
+import lombok.Builder;
+
+import java.util.Map;
+
+/**
+ * 한 달 동안의 평가 요약
+ *
+ * @param reviewCount   평가한 영화 수
+ * @param averageRating 평균 별점 (평가가 없으면 0)
+ * @param dailyCounts   날짜(yyyy-MM-dd)별 평가 수
+ */
+@Builder
+public record RatingMonthSummaryDTO(
+        int year,
+        int month,
+        long reviewCount,
+        double averageRating,
+        Map<String, Long> dailyCounts
+) {
+}
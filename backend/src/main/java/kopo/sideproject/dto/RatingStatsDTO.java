@@ -0,0 +1,14 @@
+package kopo.sideproject.dto;
+
+import lombok.Builder;
+
+import java.util.Map;
+
+@Builder
+public record RatingStatsDTO(
+        Long tmdbId,
+        int reviewCount, // 리뷰 수
+        double averageRating, // 평균 별점 (리뷰가 없으면 0)
+        Map<String, Integer> histogram // 별점("0.5" ~ "5.0")별 리뷰 수
+) {
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import kopo.sideproject.repository.entity.ReviewEntity;
 import lombok.Builder;
 
+import java.time.LocalDateTime;
+
 @Builder
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
 public record ReviewDTO(
@@ -19,6 +21,13 @@ public record ReviewDTO(
         String regDt
 
 ) {
+    // JPQL 생성자 프로젝션용 생성자 (작성일시를 yyyy-MM-dd 형식으로 변환)
+    public ReviewDTO(Long reviewId, Long userId, String email, String nickname, Long movieId,
+                     String title, String posterPath, Double rating, String content, LocalDateTime regDt) {
+        this(reviewId, userId, email, nickname, movieId, title, posterPath, rating, content,
+                (regDt != null) ? regDt.toLocalDate().toString() : null);
+    }
+
     // Entity => DTO 변환을 위한 정적 팩토리 메소드
     public static ReviewDTO fromEntity(ReviewEntity entity) {
 
@@ -0,0 +1,38 @@
+package kopo.sideproject.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 목록 페이지 조회용 프로젝션
+ * 다음 페이지 커서를 만들기 위해 작성일시를 가공하지 않은 상태로 담습니다.
+ */
+public record ReviewPageRowDTO(
+        Long reviewId,
+        Long userId,
+        String email,
+        String nickname,
+        Long movieId,
+        String title,
+        String posterPath,
+        Double rating,
+        String content,
+        LocalDateTime regDt
+) {
+    public ReviewDTO toReviewDTO() {
+
+        String formattedDate = (regDt != null) ? regDt.toLocalDate().toString() : null;
+
+        return ReviewDTO.builder()
+                .reviewId(reviewId)
+                .userId(userId)
+                .email(email)
+                .nickname(nickname)
+                .movieId(movieId)
+                .title(title)
+                .posterPath(posterPath)
+                .rating(rating)
+                .content(content)
+                .regDt(formattedDate)
+                .build();
+    }
+}
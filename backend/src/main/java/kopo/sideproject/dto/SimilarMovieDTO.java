@@ -0,0 +1,15 @@
+package kopo.sideproject.dto;
+
+/**
+ * 유사 영화 / 추천 영화
+ *
+ * @param tmdbId TMDB 영화 ID
+ * @param score  유사도 (추천 목록에서는 추천 점수)
+ */
+public record SimilarMovieDTO(
+        Long tmdbId,
+        String title,
+        String posterPath,
+        Double score
+) {
+}
@@ -0,0 +1,17 @@
+package kopo.sideproject.dto;
+
+import lombok.Builder;
+
+/**
+ * 두 사용자의 취향 일치도
+ *
+ * @param commonCount  두 사용자가 모두 평가한 영화 수
+ * @param matchPercent 공통 영화 별점의 일치도 (0 ~ 100, 공통 영화가 없으면 null)
+ */
+@Builder
+public record TasteMatchDTO(
+        Long userId,
+        int commonCount,
+        Integer matchPercent
+) {
+}
@@ -3,6 +3,7 @@ package kopo.sideproject.dto;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kopo.sideproject.repository.entity.MovieEntity;
 
 import java.util.List;
 
@@ -18,12 +19,29 @@ public record TmdbResponseDTO(
     public record MovieResultDto(
             Long id,
             String title,
+            @JsonProperty("original_title") String originalTitle,
             String overview,
             @JsonProperty("poster_path") String posterPath,
             @JsonProperty("release_date") String releaseDate,
             @JsonProperty("genre_ids") List<Integer> genreIds,
-            @JsonProperty("vote_average") double voteAverage
-    ){}
+            @JsonProperty("vote_average") double voteAverage,
+            double popularity
+    ){
+        // Entity => DTO 변환을 위한 정적 팩토리 메소드
+        public static MovieResultDto fromEntity(MovieEntity entity) {
+            return new MovieResultDto(
+                    entity.getTmdbId(),
+                    entity.getTitle(),
+                    entity.getOriginalTitle(),
+                    entity.getOverview(),
+                    entity.getPosterPath(),
+                    entity.getReleaseDate(),
+                    null,
+                    entity.getVoteAverage(),
+                    entity.getPopularity()
+            );
+        }
+    }
 }
 
 
@@ -0,0 +1,11 @@
+package kopo.sideproject.event;
+
+import java.util.List;
+
+/**
+ * MOVIE 테이블에 영화가 저장(또는 갱신)되었을 때 발행되는 이벤트 (검색 색인 갱신용)
+ *
+ * @param tmdbIds 저장된 영화의 TMDB ID
+ */
+public record MoviesIngestedEvent(List<Long> tmdbIds) {
+}
@@ -0,0 +1,9 @@
+package kopo.sideproject.event;
+
+/**
+ * 취향 일치도 조회 시 별점 벡터가 아직 저장되지 않은 사용자가 있을 때 발행되는 이벤트 (조회와 분리하여 벡터를 저장하기 위함)
+ *
+ * @param userId 벡터를 만들 사용자 ID
+ */
+public record RatingVectorMissingEvent(Long userId) {
+}
@@ -0,0 +1,14 @@
+package kopo.sideproject.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 작성/별점 수정/삭제 시 발행되는 이벤트 (인기 급상승 영화 점수 갱신용)
+ *
+ * @param tmdbId    리뷰한 영화의 TMDB ID
+ * @param regDt     리뷰 작성 시각
+ * @param oldRating 변경 전 별점 (작성 시 null)
+ * @param newRating 변경 후 별점 (삭제 시 null)
+ */
+public record ReviewActivityEvent(Long tmdbId, LocalDateTime regDt, Double oldRating, Double newRating) {
+}
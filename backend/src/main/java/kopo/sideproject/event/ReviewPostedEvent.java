@@ -0,0 +1,10 @@
+package kopo.sideproject.event;
+
+/**
+ * 리뷰가 새로 작성되었을 때 발행되는 이벤트 (팔로워 피드 전달용)
+ *
+ * @param reviewId 작성된 리뷰 ID
+ * @param authorId 리뷰 작성자 ID
+ */
+public record ReviewPostedEvent(Long reviewId, Long authorId) {
+}
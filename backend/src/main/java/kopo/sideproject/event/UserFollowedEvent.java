@@ -0,0 +1,10 @@
+package kopo.sideproject.event;
+
+/**
+ * 새 팔로우 관계가 저장되었을 때 발행되는 이벤트 (팔로우한 사용자의 최근 리뷰를 피드에 채우기 위함)
+ *
+ * @param followerId  팔로우한 사용자 ID
+ * @param followingId 팔로우 대상 사용자 ID
+ */
+public record UserFollowedEvent(Long followerId, Long followingId) {
+}
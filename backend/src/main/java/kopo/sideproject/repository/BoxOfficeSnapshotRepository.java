@@ -0,0 +1,17 @@
+package kopo.sideproject.repository;
+
+import kopo.sideproject.repository.entity.BoxOfficeSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BoxOfficeSnapshotRepository extends JpaRepository<BoxOfficeSnapshotEntity, Long> {
+
+    Optional<BoxOfficeSnapshotEntity> findByTargetDt(String targetDt);
+
+    // 가장 최근 기준일의 스냅샷 2건 (현재 + 전날 대체용)
+    List<BoxOfficeSnapshotEntity> findTop2ByOrderByTargetDtDesc();
+}
@@ -0,0 +1,9 @@
+package kopo.sideproject.repository;
+
+import kopo.sideproject.repository.entity.CatalogSyncCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CatalogSyncCheckpointRepository extends JpaRepository<CatalogSyncCheckpointEntity, String> {
+}
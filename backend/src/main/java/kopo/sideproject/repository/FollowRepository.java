@@ -1,28 +1,46 @@
 package kopo.sideproject.repository;
 
+import kopo.sideproject.dto.FollowDTO;
 import kopo.sideproject.repository.entity.FollowEntity;
-import kopo.sideproject.repository.entity.UserInfoEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface FollowRepository extends CrudRepository<FollowEntity,Long> {
 
-    // 특정 팔로워와 팔로잉 관계가 존재하는지 확인하기 위한 메서드
-    Optional<FollowEntity> findByFollowerAndFollowing(UserInfoEntity follower, UserInfoEntity following);
-
-    // 특정 사용자를 팔로우하는 사람의 수(팔로워 수)
-    int countByFollowing(UserInfoEntity userInfoEntity);
-
-    // 특정 사용자가 팔로우하는 사람의 수 ( 팔로잉 수 )
-    int countByFollower(UserInfoEntity userInfoEntity);
-
-    // 특정 사용자를 팔로우하는 모든 관계 목록 조회 (팔로워 목록)
-    List<FollowEntity> findAllByFollowing(UserInfoEntity userInfoEntity);
-
-    // 특정 사용자가 팔로우하는 모든 관계 목록 조회 (팔로잉 목록)
-    List<FollowEntity> findAllByFollower(UserInfoEntity userInfoEntity);
+    // 특정 사용자를 팔로우하는 사용자 목록 (팔로워 목록, 커서보다 먼저 팔로우한 순)
+    @Query("SELECT new kopo.sideproject.dto.FollowDTO(f.followId, u.id, u.email, u.nickname, u.profileImg) " +
+            "FROM FollowEntity f JOIN f.follower u " +
+            "WHERE f.following.id = :userId AND f.followId < :cursor " +
+            "ORDER BY f.followId DESC")
+    List<FollowDTO> findFollowerPage(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 특정 사용자가 팔로우하는 사용자 목록 (팔로잉 목록, 커서보다 먼저 팔로우한 순)
+    @Query("SELECT new kopo.sideproject.dto.FollowDTO(f.followId, u.id, u.email, u.nickname, u.profileImg) " +
+            "FROM FollowEntity f JOIN f.following u " +
+            "WHERE f.follower.id = :userId AND f.followId < :cursor " +
+            "ORDER BY f.followId DESC")
+    List<FollowDTO> findFollowingPage(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 특정 사용자의 팔로워 ID 목록 (팔로우 그래프 캐시 적재용)
+    @Query("SELECT f.follower.id FROM FollowEntity f WHERE f.following.id = :userId")
+    List<Long> findFollowerIds(@Param("userId") Long userId);
+
+    // 특정 사용자의 팔로잉 ID 목록 (팔로우 그래프 캐시 적재용)
+    @Query("SELECT f.following.id FROM FollowEntity f WHERE f.follower.id = :userId")
+    List<Long> findFollowingIds(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(f) > 0 FROM FollowEntity f WHERE f.follower.id = :followerId AND f.following.id = :followingId")
+    boolean existsByIds(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    // 팔로우 관계 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM FollowEntity f WHERE f.follower.id = :followerId AND f.following.id = :followingId")
+    int deleteByIds(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
 }
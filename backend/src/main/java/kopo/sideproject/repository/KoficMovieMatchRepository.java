@@ -0,0 +1,21 @@
+package kopo.sideproject.repository;
+
+import kopo.sideproject.repository.entity.KoficMovieMatchEntity;
+import kopo.sideproject.repository.entity.MovieEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface KoficMovieMatchRepository extends JpaRepository<KoficMovieMatchEntity, Long> {
+
+    /**
+     * KOFIC 영화명 + 개봉일로 매칭된 영화 정보 조회 (kofic_movie_match_uk 인덱스 사용)
+     */
+    @Query("SELECT m FROM KoficMovieMatchEntity k, MovieEntity m " +
+            "WHERE m.tmdbId = k.tmdbId AND k.movieNm = :movieNm AND k.openDt = :openDt")
+    Optional<MovieEntity> findMatchedMovie(@Param("movieNm") String movieNm, @Param("openDt") String openDt);
+}
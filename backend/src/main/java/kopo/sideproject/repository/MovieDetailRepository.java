@@ -0,0 +1,25 @@
+package kopo.sideproject.repository;
+
+import kopo.sideproject.repository.entity.MovieDetailEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MovieDetailRepository extends JpaRepository<MovieDetailEntity, Long> {
+
+    /**
+     * 지정한 시각 이전에 가져온(갱신이 필요한) 영화의 TMDB ID 목록을 오래된 순서로 조회
+     * TMDB 에서 삭제된 영화와, 갱신에 실패해 다시 시도할 시각(now)이 아직 되지 않은 영화는 제외
+     */
+    @Query("SELECT d.tmdbId FROM MovieDetailEntity d " +
+            "WHERE d.fetchedAt < :before AND d.removedFromTmdb = false " +
+            "AND (d.nextAttemptAt IS NULL OR d.nextAttemptAt <= :now) " +
+            "ORDER BY d.fetchedAt")
+    List<Long> findStaleTmdbIds(@Param("before") LocalDateTime before, @Param("now") LocalDateTime now, Pageable pageable);
+}
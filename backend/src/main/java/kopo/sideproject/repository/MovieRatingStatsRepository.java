@@ -0,0 +1,54 @@
+package kopo.sideproject.repository;
+
+import jakarta.persistence.LockModeType;
+import kopo.sideproject.repository.entity.MovieRatingStatsEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MovieRatingStatsRepository extends JpaRepository<MovieRatingStatsEntity, Long> {
+
+    Optional<MovieRatingStatsEntity> findByTmdbId(Long tmdbId);
+
+    /**
+     * 집계 행이 없으면 빈 집계 행을 생성 (이미 있으면 아무것도 바꾸지 않음)
+     * INSERT IGNORE 는 이미 있는 행에 공유 잠금을 걸어, 이어지는 FOR UPDATE 와 함께 동시 요청끼리 교착 상태가 되므로
+     * 이미 있는 행에도 배타 잠금을 거는 ON DUPLICATE KEY UPDATE 를 사용합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO movie_rating_stats (movie_id, tmdb_id, review_count, rating_sum, histogram) " +
+            "VALUES (:movieId, :tmdbId, 0, 0, '0,0,0,0,0,0,0,0,0,0') " +
+            "ON DUPLICATE KEY UPDATE movie_id = movie_id", nativeQuery = true)
+    void insertIfAbsent(@Param("movieId") Long movieId, @Param("tmdbId") Long tmdbId);
+
+    /**
+     * 유사 영화 목록 계산 이후 별점이 바뀐 영화 (MOVIE 테이블 PK)
+     */
+    @Query("SELECT s.movieId FROM MovieRatingStatsEntity s " +
+            "WHERE s.similarityBuiltAt IS NULL OR s.ratingsChangedAt > s.similarityBuiltAt")
+    List<Long> findSimilarityStaleMovieIds(Pageable pageable);
+
+    /**
+     * 유사 영화 목록 계산 완료 표시
+     */
+    @Modifying
+    @Query("UPDATE MovieRatingStatsEntity s SET s.similarityBuiltAt = :builtAt WHERE s.movieId IN :movieIds")
+    int markSimilarityBuilt(@Param("movieIds") Collection<Long> movieIds, @Param("builtAt") LocalDateTime builtAt);
+
+    /**
+     * 동시에 같은 영화의 집계를 갱신하지 않도록 행 잠금(SELECT ... FOR UPDATE)을 걸고 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM MovieRatingStatsEntity s WHERE s.movieId = :movieId")
+    Optional<MovieRatingStatsEntity> findByIdForUpdate(@Param("movieId") Long movieId);
+}
@@ -1,9 +1,14 @@
 package kopo.sideproject.repository;
 
 import kopo.sideproject.repository.entity.MovieEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,4 +22,29 @@ public interface MovieRepository extends JpaRepository<MovieEntity, Long> {
     Optional<MovieEntity> findByTitle(String title);
 
     Optional<MovieEntity> findByTmdbId(Long tmdbId);
+
+    /**
+     * 주어진 TMDB ID 중 이미 저장된 영화의 TMDB ID 만 조회 (IN 쿼리 한 번으로 존재 여부 확인)
+     */
+    @Query("SELECT m.tmdbId FROM MovieEntity m WHERE m.tmdbId IN :tmdbIds")
+    List<Long> findExistingTmdbIds(@Param("tmdbIds") Collection<Long> tmdbIds);
+
+    List<MovieEntity> findByTmdbIdIn(Collection<Long> tmdbIds);
+
+    /**
+     * PK 순으로 afterPk 다음 영화들을 조회 (검색 색인 전체 재생성 시 나누어 읽기용)
+     */
+    @Query("SELECT m FROM MovieEntity m WHERE m.moviePk > :afterPk ORDER BY m.moviePk")
+    List<MovieEntity> findNextPage(@Param("afterPk") Long afterPk, Pageable pageable);
+
+    /**
+     * 자동완성 목록 생성용 (TMDB ID, 제목, 포스터, 개봉일, 인기도, 리뷰 수)
+     */
+    @Query("SELECT m.tmdbId, m.title, m.posterPath, m.releaseDate, m.popularity, COALESCE(s.reviewCount, 0) " +
+            "FROM MovieEntity m LEFT JOIN MovieRatingStatsEntity s ON s.movieId = m.moviePk")
+    List<Object[]> findSuggestSources();
+
+    // TMDB 인기도 순 영화 (추천할 유사 영화가 없을 때 사용)
+    @Query("SELECT m FROM MovieEntity m ORDER BY m.popularity DESC, m.moviePk")
+    List<MovieEntity> findPopularMovies(Pageable pageable);
 }
@@ -0,0 +1,27 @@
+package kopo.sideproject.repository;
+
+import kopo.sideproject.dto.SimilarMovieDTO;
+import kopo.sideproject.repository.entity.MovieSimilarityEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MovieSimilarityRepository extends JpaRepository<MovieSimilarityEntity, Long> {
+
+    // TMDB ID 로 유사 영화 조회 (유사도 높은 순)
+    @Query("SELECT new kopo.sideproject.dto.SimilarMovieDTO(m.tmdbId, m.title, m.posterPath, s.score) " +
+            "FROM MovieSimilarityEntity s, MovieEntity src, MovieEntity m " +
+            "WHERE src.tmdbId = :tmdbId AND s.movieId = src.moviePk AND m.moviePk = s.neighborMovieId " +
+            "ORDER BY s.score DESC")
+    List<SimilarMovieDTO> findSimilarMovies(@Param("tmdbId") Long tmdbId, Pageable pageable);
+
+    // 여러 영화의 유사 영화 목록 (추천 점수 계산용)
+    @Query("SELECT s FROM MovieSimilarityEntity s WHERE s.movieId IN :movieIds")
+    List<MovieSimilarityEntity> findByMovieIds(@Param("movieIds") Collection<Long> movieIds);
+}
@@ -1,19 +1,114 @@
 package kopo.sideproject.repository;
 
-import kopo.sideproject.repository.entity.MovieEntity;
+import kopo.sideproject.dto.DailyRatingCountDTO;
+import kopo.sideproject.dto.RatingCalendarEntryDTO;
+import kopo.sideproject.dto.ReviewDTO;
+import kopo.sideproject.dto.ReviewPageRowDTO;
 import kopo.sideproject.repository.entity.ReviewEntity;
-import kopo.sideproject.repository.entity.UserInfoEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<ReviewEntity, Long> {
-    List<ReviewEntity> findByMovie(MovieEntity movie);
 
-    @Query("SELECT r FROM ReviewEntity r JOIN FETCH r.movie WHERE r.user.id = :userId")
-    List<ReviewEntity> findAllByUserId(@Param("userId") Long userId);
+    // 영화 리뷰 목록 프로젝션 (엔티티를 로딩하지 않고 필요한 컬럼만 조회)
+    String REVIEW_PAGE_ROW_QUERY = "SELECT new kopo.sideproject.dto.ReviewPageRowDTO(" +
+            "r.reviewId, u.id, u.email, u.nickname, m.tmdbId, m.title, m.posterPath, r.rating, r.content, r.regDt) " +
+            "FROM ReviewEntity r JOIN r.user u JOIN r.movie m WHERE m.tmdbId = :tmdbId ";
+
+    // 최신순: (작성일시, 리뷰 ID) 가 커서보다 작은 리뷰
+    @Query(REVIEW_PAGE_ROW_QUERY +
+            "AND (r.regDt < :regDt OR (r.regDt = :regDt AND r.reviewId < :reviewId)) " +
+            "ORDER BY r.regDt DESC, r.reviewId DESC")
+    List<ReviewPageRowDTO> findNewestReviews(@Param("tmdbId") Long tmdbId,
+                                             @Param("regDt") LocalDateTime regDt,
+                                             @Param("reviewId") Long reviewId,
+                                             Pageable pageable);
+
+    // 별점 높은순: 별점 내림차순, 같은 별점은 최신순
+    @Query(REVIEW_PAGE_ROW_QUERY +
+            "AND (r.rating < :rating OR (r.rating = :rating AND " +
+            "(r.regDt < :regDt OR (r.regDt = :regDt AND r.reviewId < :reviewId)))) " +
+            "ORDER BY r.rating DESC, r.regDt DESC, r.reviewId DESC")
+    List<ReviewPageRowDTO> findHighestRatedReviews(@Param("tmdbId") Long tmdbId,
+                                                   @Param("rating") Double rating,
+                                                   @Param("regDt") LocalDateTime regDt,
+                                                   @Param("reviewId") Long reviewId,
+                                                   Pageable pageable);
+
+    // 별점 낮은순: 별점 오름차순, 같은 별점은 최신순
+    @Query(REVIEW_PAGE_ROW_QUERY +
+            "AND (r.rating > :rating OR (r.rating = :rating AND " +
+            "(r.regDt < :regDt OR (r.regDt = :regDt AND r.reviewId < :reviewId)))) " +
+            "ORDER BY r.rating ASC, r.regDt DESC, r.reviewId DESC")
+    List<ReviewPageRowDTO> findLowestRatedReviews(@Param("tmdbId") Long tmdbId,
+                                                  @Param("rating") Double rating,
+                                                  @Param("regDt") LocalDateTime regDt,
+                                                  @Param("reviewId") Long reviewId,
+                                                  Pageable pageable);
+
+    // 특정 사용자가 해당 영화에 남긴 리뷰 (최신순, 같은 영화에 리뷰가 여러 개 있을 수 있으므로 Pageable 로 개수 제한)
+    @Query(REVIEW_PAGE_ROW_QUERY + "AND u.email = :email ORDER BY r.regDt DESC, r.reviewId DESC")
+    List<ReviewPageRowDTO> findMovieReviewsByEmail(@Param("tmdbId") Long tmdbId, @Param("email") String email, Pageable pageable);
+
+    // 사용자 리뷰 목록 프로젝션 (최신순)
+    String USER_REVIEW_QUERY = "SELECT new kopo.sideproject.dto.ReviewDTO(" +
+            "r.reviewId, u.id, u.email, u.nickname, m.tmdbId, m.title, m.posterPath, r.rating, r.content, r.regDt) " +
+            "FROM ReviewEntity r JOIN r.user u JOIN r.movie m ";
+
+    @Query(USER_REVIEW_QUERY + "WHERE u.id = :userId ORDER BY r.regDt DESC, r.reviewId DESC")
+    List<ReviewDTO> findReviewDTOsByUserId(@Param("userId") Long userId);
+
+    @Query(USER_REVIEW_QUERY + "WHERE u.email = :email ORDER BY r.regDt DESC, r.reviewId DESC")
+    List<ReviewDTO> findReviewDTOsByUserEmail(@Param("email") String email);
+
+    // 피드: 리뷰 ID 목록으로 조회
+    @Query(USER_REVIEW_QUERY + "WHERE r.reviewId IN :reviewIds")
+    List<ReviewDTO> findReviewDTOsByIds(@Param("reviewIds") Collection<Long> reviewIds);
+
+    // 피드: 작성자들의 리뷰 중 커서보다 이전 리뷰를 최신순으로 조회 (팔로워가 많은 사용자의 리뷰를 읽을 때 가져옴)
+    @Query(USER_REVIEW_QUERY + "WHERE u.id IN :authorIds AND r.reviewId < :cursor ORDER BY r.reviewId DESC")
+    List<ReviewDTO> findRecentReviewDTOsByAuthors(@Param("authorIds") Collection<Long> authorIds,
+                                                  @Param("cursor") Long cursor,
+                                                  Pageable pageable);
+
+    // 평가 달력: 기간 [from, to) 안의 리뷰를 날짜순으로 조회 (달력에 필요한 컬럼만)
+    @Query("SELECT new kopo.sideproject.dto.RatingCalendarEntryDTO(" +
+            "r.reviewId, m.tmdbId, m.title, m.posterPath, r.rating, CAST(r.regDt AS LocalDate)) " +
+            "FROM ReviewEntity r JOIN r.movie m " +
+            "WHERE r.user.id = :userId AND r.regDt >= :from AND r.regDt < :to " +
+            "ORDER BY r.regDt ASC, r.reviewId ASC")
+    List<RatingCalendarEntryDTO> findCalendarEntries(@Param("userId") Long userId,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to);
+
+    // 월별 평가 요약: 기간 [from, to) 안의 날짜별 리뷰 수와 별점 합계
+    @Query("SELECT new kopo.sideproject.dto.DailyRatingCountDTO(CAST(r.regDt AS LocalDate), COUNT(r), SUM(r.rating)) " +
+            "FROM ReviewEntity r " +
+            "WHERE r.user.id = :userId AND r.regDt >= :from AND r.regDt < :to " +
+            "GROUP BY CAST(r.regDt AS LocalDate) " +
+            "ORDER BY CAST(r.regDt AS LocalDate)")
+    List<DailyRatingCountDTO> countDailyRatings(@Param("userId") Long userId,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+
+    // 사용자가 평가한 영화와 별점 (영화 PK, 별점) - 추천 점수 계산용
+    @Query("SELECT r.movie.moviePk, r.rating FROM ReviewEntity r WHERE r.user.id = :userId")
+    List<Object[]> findRatingsByUserId(@Param("userId") Long userId);
+
+    // 영화별/별점별 리뷰 수 (영화 PK, TMDB ID, 별점, 리뷰 수) - 별점 집계 재계산용
+    @Query("SELECT m.moviePk, m.tmdbId, r.rating, COUNT(r) FROM ReviewEntity r JOIN r.movie m " +
+            "GROUP BY m.moviePk, m.tmdbId, r.rating")
+    List<Object[]> countRatingsByMovie();
+
+    // 기간 내 작성된 리뷰 (TMDB ID, 별점, 작성 시각) - 인기 급상승 점수 재계산용
+    @Query("SELECT m.tmdbId, r.rating, r.regDt FROM ReviewEntity r JOIN r.movie m WHERE r.regDt >= :since")
+    List<Object[]> findRatingsSince(@Param("since") LocalDateTime since);
 }
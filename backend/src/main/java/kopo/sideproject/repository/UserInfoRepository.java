@@ -1,8 +1,14 @@
 package kopo.sideproject.repository;
 
+import kopo.sideproject.dto.FollowDTO;
 import kopo.sideproject.repository.entity.UserInfoEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserInfoRepository extends JpaRepository<UserInfoEntity, Long> {
@@ -11,4 +17,30 @@ public interface UserInfoRepository extends JpaRepository<UserInfoEntity, Long>
 
     Optional<UserInfoEntity> findByEmailAndPassword(String email,String password);
 
+    @Query("SELECT u.id FROM UserInfoEntity u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    // 팔로워 / 팔로잉 수 (기본키 조회)
+    @Query("SELECT new kopo.sideproject.dto.FollowDTO(u.followerCount, u.followingCount) FROM UserInfoEntity u WHERE u.id = :userId")
+    Optional<FollowDTO> findFollowCounts(@Param("userId") Long userId);
+
+    // 주어진 사용자 중 팔로워 수가 기준보다 많은 사용자 ID (피드를 읽을 때 리뷰를 직접 가져올 대상)
+    @Query("SELECT u.id FROM UserInfoEntity u WHERE u.id IN :userIds AND u.followerCount > :threshold")
+    List<Long> findIdsWithFollowerCountAbove(@Param("userIds") Collection<Long> userIds, @Param("threshold") long threshold);
+
+    // 팔로워 수 증감 (팔로우/언팔로우와 같은 트랜잭션에서 원자적으로 갱신)
+    @Modifying
+    @Query("UPDATE UserInfoEntity u SET u.followerCount = u.followerCount + :delta WHERE u.id = :userId")
+    int addFollowerCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    // 팔로잉 수 증감
+    @Modifying
+    @Query("UPDATE UserInfoEntity u SET u.followingCount = u.followingCount + :delta WHERE u.id = :userId")
+    int addFollowingCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    // 프로필 이미지 경로만 변경 (다른 컬럼은 건드리지 않음)
+    @Modifying
+    @Query("UPDATE UserInfoEntity u SET u.profileImg = :profileImg WHERE u.id = :userId")
+    int updateProfileImg(@Param("userId") Long userId, @Param("profileImg") String profileImg);
+
 }
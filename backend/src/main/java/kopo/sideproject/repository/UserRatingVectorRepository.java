@@ -0,0 +1,33 @@
+package kopo.sideproject.repository;
+
+import jakarta.persistence.LockModeType;
+import kopo.sideproject.repository.entity.UserRatingVectorEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserRatingVectorRepository extends JpaRepository<UserRatingVectorEntity, Long> {
+
+    /**
+     * 벡터 행이 없으면 빈(아직 만들지 않은) 벡터 행을 생성 (이미 있으면 아무것도 바꾸지 않음)
+     * 이미 있는 행에도 배타 잠금을 걸어 이어지는 FOR UPDATE 와 교착 상태가 되지 않도록 ON DUPLICATE KEY UPDATE 사용
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_rating_vector (user_id, vector, rating_count) " +
+            "VALUES (:userId, NULL, 0) " +
+            "ON DUPLICATE KEY UPDATE user_id = user_id", nativeQuery = true)
+    void insertIfAbsent(@Param("userId") Long userId);
+
+    /**
+     * 동시에 같은 사용자의 벡터를 갱신하지 않도록 행 잠금(SELECT ... FOR UPDATE)을 걸고 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM UserRatingVectorEntity v WHERE v.userId = :userId")
+    Optional<UserRatingVectorEntity> findByIdForUpdate(@Param("userId") Long userId);
+}
@@ -0,0 +1,45 @@
+package kopo.sideproject.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "BOX_OFFICE_SNAPSHOT")
+public class BoxOfficeSnapshotEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snapshot_id")
+    private Long snapshotId;
+
+    // 박스오피스 기준일 (형식: yyyyMMdd)
+    @Column(name = "target_dt", length = 8, unique = true, nullable = false)
+    private String targetDt;
+
+    // KOFIC + TMDB 조합 결과 (List<TmdbResponseDTO.MovieResultDto> 를 JSON 으로 저장)
+    @Lob
+    @Column(name = "movies_json", columnDefinition = "LONGTEXT", nullable = false)
+    private String moviesJson;
+
+    @Column(name = "built_at", nullable = false)
+    private LocalDateTime builtAt;
+
+    // 스냅샷 생성에 걸린 시간 (밀리초)
+    @Column(name = "build_millis", nullable = false)
+    private long buildMillis;
+
+    public void updateSnapshot(String moviesJson, LocalDateTime builtAt, long buildMillis) {
+        this.moviesJson = moviesJson;
+        this.builtAt = builtAt;
+        this.buildMillis = buildMillis;
+    }
+}
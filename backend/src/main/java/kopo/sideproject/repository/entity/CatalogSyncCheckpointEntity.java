@@ -0,0 +1,55 @@
+package kopo.sideproject.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * TMDB 카탈로그 동기화 진행 상황 (목록별 다음 페이지, 마지막 실행 시각)
+ * 서버가 재시작되어도 마지막으로 저장한 페이지 다음부터 이어서 동기화합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "CATALOG_SYNC_CHECKPOINT")
+public class CatalogSyncCheckpointEntity {
+
+    // TMDB 목록 이름 (now-playing, popular, upcoming)
+    @Id
+    @Column(name = "list_name", length = 30)
+    private String listName;
+
+    // 다음에 가져올 페이지 번호
+    @Column(name = "next_page", nullable = false)
+    private int nextPage;
+
+    // 마지막으로 확인한 목록의 전체 페이지 수
+    @Column(name = "total_pages", nullable = false)
+    private int totalPages;
+
+    // 마지막으로 페이지를 처리한 시각
+    @Column(name = "last_run_at")
+    private LocalDateTime lastRunAt;
+
+    // 마지막으로 목록 전체를 끝까지 동기화한 시각
+    @Column(name = "last_completed_at")
+    private LocalDateTime lastCompletedAt;
+
+    public void pageCompleted(int totalPages, LocalDateTime runAt) {
+        this.nextPage++;
+        this.totalPages = totalPages;
+        this.lastRunAt = runAt;
+    }
+
+    public void listCompleted(LocalDateTime completedAt) {
+        this.nextPage = 1;
+        this.lastRunAt = completedAt;
+        this.lastCompletedAt = completedAt;
+    }
+}
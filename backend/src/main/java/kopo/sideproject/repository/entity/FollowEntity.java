@@ -17,6 +17,11 @@ uniqueConstraints = {
                 name = "follow_uk",
                 columnNames = {"follower_id", "following_id"}
         )
+},
+indexes = {
+        // 팔로워 / 팔로잉 목록 커서 페이지네이션용
+        @Index(name = "follow_following_follow_id_idx", columnList = "following_id, follow_id"),
+        @Index(name = "follow_follower_follow_id_idx", columnList = "follower_id, follow_id")
 })
 public class FollowEntity {
 
@@ -0,0 +1,47 @@
+package kopo.sideproject.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * KOFIC 영화(영화명 + 개봉일)와 TMDB 영화 ID 의 매칭 결과
+ * 한 번 매칭된 영화는 다음 박스오피스 생성 시 TMDB 검색 없이 이 테이블에서 바로 찾습니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "KOFIC_MOVIE_MATCH",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "kofic_movie_match_uk",
+                        columnNames = {"movie_nm", "open_dt"}
+                )
+        })
+public class KoficMovieMatchEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "match_id")
+    private Long matchId;
+
+    // KOFIC 영화명 (국문)
+    @Column(name = "movie_nm", length = 200, nullable = false)
+    private String movieNm;
+
+    // KOFIC 개봉일 (형식: yyyy-MM-dd, 없으면 빈 문자열)
+    @Column(name = "open_dt", length = 10, nullable = false)
+    private String openDt;
+
+    @Column(name = "tmdb_id", nullable = false)
+    private Long tmdbId;
+
+    @Column(name = "matched_at", nullable = false)
+    private LocalDateTime matchedAt;
+}
@@ -0,0 +1,75 @@
+package kopo.sideproject.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * TMDB 영화 상세 정보 로컬 저장소
+ * 상세 응답 전체(장르, 국가, 출연진, 이미지 포함)를 JSON 으로 저장하고, 마지막으로 TMDB 에서 가져온 시각을 함께 기록합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "MOVIE_DETAIL",
+        indexes = {
+                @Index(name = "movie_detail_fetched_at_idx", columnList = "fetched_at")
+        })
+public class MovieDetailEntity {
+
+    @Id
+    @Column(name = "tmdb_id")
+    private Long tmdbId;
+
+    @Column(name = "movie_title")
+    private String title;
+
+    // TmdbMovieDetailDTO 를 JSON 으로 저장
+    @Lob
+    @Column(name = "detail_json", columnDefinition = "LONGTEXT", nullable = false)
+    private String detailJson;
+
+    // 마지막으로 TMDB 에서 가져온 시각
+    @Column(name = "fetched_at", nullable = false)
+    private LocalDateTime fetchedAt;
+
+    // 연속으로 갱신에 실패한 횟수 (성공하면 0)
+    @ColumnDefault("0")
+    @Column(name = "refresh_failures", nullable = false)
+    private int refreshFailures;
+
+    // 갱신에 실패한 경우 이 시각 이후에 다시 시도
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    // TMDB 에서 삭제된(404) 영화 (더 이상 갱신하지 않고 저장된 정보를 그대로 제공)
+    @ColumnDefault("0")
+    @Column(name = "removed_from_tmdb", nullable = false)
+    private boolean removedFromTmdb;
+
+    public void updateDetail(String title, String detailJson, LocalDateTime fetchedAt) {
+        this.title = title;
+        this.detailJson = detailJson;
+        this.fetchedAt = fetchedAt;
+        this.refreshFailures = 0;
+        this.nextAttemptAt = null;
+        this.removedFromTmdb = false;
+    }
+
+    public void refreshFailed(LocalDateTime nextAttemptAt) {
+        this.refreshFailures++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void markRemovedFromTmdb() {
+        this.removedFromTmdb = true;
+        this.nextAttemptAt = null;
+    }
+}
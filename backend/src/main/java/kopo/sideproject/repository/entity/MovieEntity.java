@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.ColumnDefault;
 
 
 @Getter
@@ -27,6 +28,9 @@ public class MovieEntity {
     @Column(name = "movie_title", nullable = false)
     private String title;
 
+    @Column(name = "original_title")
+    private String originalTitle;
+
     @Column(name = "release_date")
     private String releaseDate;
 
@@ -38,4 +42,9 @@ public class MovieEntity {
 
     @Column(name = "vote_average")
     private double voteAverage;
+
+    // TMDB 인기도 (자동완성 정렬용)
+    @ColumnDefault("0")
+    @Column(name = "popularity", nullable = false)
+    private double popularity;
 }
@@ -0,0 +1,84 @@
+package kopo.sideproject.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 영화별 별점 집계 (리뷰 수, 별점 합계, 0.5점 단위 히스토그램)
+ * 리뷰 작성/수정/삭제 시 같은 트랜잭션 안에서 갱신되므로, 평균 별점 조회 시 REVIEWS 테이블을 읽지 않습니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "MOVIE_RATING_STATS")
+public class MovieRatingStatsEntity {
+
+    // 0.5 ~ 5.0 (0.5점 단위) => 10개 구간
+    public static final int BUCKET_COUNT = 10;
+
+    // MOVIE 테이블의 PK
+    @Id
+    @Column(name = "movie_id")
+    private Long movieId;
+
+    @Column(name = "tmdb_id", unique = true, nullable = false)
+    private Long tmdbId;
+
+    @Column(name = "review_count", nullable = false)
+    private int reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private double ratingSum;
+
+    // histogram[0] = 0.5점 리뷰 수, ..., histogram[9] = 5.0점 리뷰 수
+    @Convert(converter = RatingHistogramConverter.class)
+    @Column(name = "histogram", length = 200, nullable = false)
+    private int[] histogram;
+
+    // 마지막으로 별점이 바뀐 시각 / 유사 영화 목록을 마지막으로 계산한 시각 (계산 이후 별점이 바뀌었으면 재계산 대상)
+    @Column(name = "ratings_changed_at")
+    private LocalDateTime ratingsChangedAt;
+
+    @Column(name = "similarity_built_at")
+    private LocalDateTime similarityBuiltAt;
+
+    public void addRating(double rating) {
+        this.reviewCount++;
+        this.ratingSum += rating;
+        changeBucket(rating, 1);
+        this.ratingsChangedAt = LocalDateTime.now();
+    }
+
+    public void removeRating(double rating) {
+        this.reviewCount = Math.max(0, this.reviewCount - 1);
+        this.ratingSum = (this.reviewCount == 0) ? 0 : this.ratingSum - rating;
+        changeBucket(rating, -1);
+        this.ratingsChangedAt = LocalDateTime.now();
+    }
+
+    private void changeBucket(double rating, int delta) {
+        // 배열을 새로 만들어 할당해야 Hibernate 가 변경을 감지함
+        int[] changed = (histogram == null) ? new int[BUCKET_COUNT] : histogram.clone();
+        int bucket = bucketOf(rating);
+
+        changed[bucket] = Math.max(0, changed[bucket] + delta);
+
+        this.histogram = changed;
+    }
+
+    /**
+     * 별점이 속하는 히스토그램 구간 (0.5점 => 0, 5.0점 => 9)
+     */
+    public static int bucketOf(double rating) {
+        int bucket = (int) Math.round(rating * 2) - 1;
+
+        return Math.min(BUCKET_COUNT - 1, Math.max(0, bucket));
+    }
+}
@@ -0,0 +1,52 @@
+package kopo.sideproject.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 영화별 유사 영화 (아이템 기반 협업 필터링 결과, 영화마다 유사도 상위 K개)
+ * 행은 MovieSimilarityService 가 JDBC 배치로 통째로 교체합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "MOVIE_SIMILARITY",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "movie_similarity_uk", columnNames = {"movie_id", "neighbor_movie_id"})
+        },
+        indexes = {
+                @Index(name = "movie_similarity_score_idx", columnList = "movie_id, score")
+        })
+public class MovieSimilarityEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "similarity_id")
+    private Long similarityId;
+
+    // 기준 영화 (MOVIE 테이블 PK)
+    @Column(name = "movie_id", nullable = false)
+    private Long movieId;
+
+    // 유사 영화 (MOVIE 테이블 PK)
+    @Column(name = "neighbor_movie_id", nullable = false)
+    private Long neighborMovieId;
+
+    // 축소(shrinkage)를 적용한 보정 코사인 유사도
+    @Column(name = "score", nullable = false)
+    private double score;
+
+    // 두 영화를 모두 평가한 사용자 수
+    @Column(name = "co_rating_count", nullable = false)
+    private int coRatingCount;
+
+    @Column(name = "built_at", nullable = false)
+    private LocalDateTime builtAt;
+}
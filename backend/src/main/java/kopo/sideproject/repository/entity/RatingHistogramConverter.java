@@ -0,0 +1,36 @@
+package kopo.sideproject.repository.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 별점 히스토그램(int 배열)을 "0,1,5,..." 형태의 문자열 컬럼으로 저장하기 위한 변환기
+ */
+@Converter
+public class RatingHistogramConverter implements AttributeConverter<int[], String> {
+
+    @Override
+    public String convertToDatabaseColumn(int[] histogram) {
+        if (histogram == null) {
+            return null;
+        }
+
+        return Arrays.stream(histogram)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+
+    @Override
+    public int[] convertToEntityAttribute(String column) {
+        if (column == null || column.isBlank()) {
+            return new int[MovieRatingStatsEntity.BUCKET_COUNT];
+        }
+
+        return Arrays.stream(column.split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+    }
+}
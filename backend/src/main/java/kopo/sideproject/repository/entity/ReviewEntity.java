@@ -17,7 +17,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "REVIEWS")
+@Table(name = "REVIEWS",
+        indexes = {
+                // 영화별 리뷰 목록 키셋 페이지네이션용 (최신순 / 별점순)
+                @Index(name = "reviews_movie_reg_dt_idx", columnList = "movie_id, reg_dt, review_id"),
+                @Index(name = "reviews_movie_rating_idx", columnList = "movie_id, rating, reg_dt, review_id"),
+                // 사용자별 평가 달력 (월 단위 조회)
+                @Index(name = "reviews_user_reg_dt_idx", columnList = "user_id, reg_dt")
+        })
 @DynamicInsert
 @DynamicUpdate
 public class ReviewEntity {
@@ -26,11 +33,11 @@ public class ReviewEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long reviewId;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private UserInfoEntity user;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "movie_id", nullable = false)
     private MovieEntity movie;
 
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 
@@ -16,6 +17,7 @@ import org.hibernate.annotations.DynamicUpdate;
 @DynamicUpdate
 @Builder
 @Entity
+@EntityListeners(UserInfoEntityListener.class)
 public class UserInfoEntity {
 
     @Id
@@ -36,4 +38,24 @@ public class UserInfoEntity {
 
     @Column(name = "reg_dt", updatable = false)
     private String regDt;
+
+    // 팔로워 수 (FOLLOW 테이블 기준 집계값, 팔로우/언팔로우 시 함께 갱신)
+    @ColumnDefault("0")
+    @Column(name = "follower_count", nullable = false)
+    private long followerCount;
+
+    // 팔로잉 수
+    @ColumnDefault("0")
+    @Column(name = "following_count", nullable = false)
+    private long followingCount;
+
+    // DB 에서 읽었을 때의 이메일 (이메일이 바뀌면 이전 이메일의 캐시를 지우기 위해 보관)
+    @Transient
+    private String loadedEmail;
+
+    @PostLoad
+    @PostPersist
+    void rememberEmail() {
+        this.loadedEmail = this.email;
+    }
 }
@@ -0,0 +1,33 @@
+package kopo.sideproject.repository.entity;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import kopo.sideproject.service.impl.FollowGraphCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Objects;
+
+/**
+ * 사용자의 이메일이 바뀌거나 사용자가 삭제되면 이메일 => 사용자 ID 캐시를 지웁니다.
+ * (Hibernate 가 Spring 빈으로 생성하며, 엔티티 매니저 생성 시점의 순환 참조를 피하려고 캐시 서비스는 사용할 때 조회)
+ */
+@RequiredArgsConstructor
+public class UserInfoEntityListener {
+
+    private final ObjectProvider<FollowGraphCacheService> followGraphCacheService;
+
+    @PostUpdate
+    public void userUpdated(UserInfoEntity user) {
+        if (user.getLoadedEmail() != null && !Objects.equals(user.getLoadedEmail(), user.getEmail())) {
+            followGraphCacheService.getObject().evictUserId(user.getLoadedEmail());
+        }
+
+        user.rememberEmail();
+    }
+
+    @PostRemove
+    public void userRemoved(UserInfoEntity user) {
+        followGraphCacheService.getObject().evictUserId(user.getLoadedEmail() != null ? user.getLoadedEmail() : user.getEmail());
+    }
+}
@@ -0,0 +1,44 @@
+package kopo.sideproject.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 별점 벡터 (영화 PK 순으로 정렬된 (영화, 별점) 목록을 직렬화한 값)
+ * 리뷰 작성/수정/삭제 시 같은 트랜잭션 안에서 갱신되므로, 취향 일치도 계산 시 REVIEWS 테이블을 읽지 않습니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "USER_RATING_VECTOR")
+public class UserRatingVectorEntity {
+
+    // USER_INFO 테이블의 PK
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // RatingVector.encode() 결과 (null 이면 아직 만들지 않은 벡터)
+    @Lob
+    @Column(name = "vector", columnDefinition = "MEDIUMBLOB")
+    private byte[] vector;
+
+    @Column(name = "rating_count", nullable = false)
+    private int ratingCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public void updateVector(byte[] vector, int ratingCount) {
+        this.vector = vector;
+        this.ratingCount = ratingCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
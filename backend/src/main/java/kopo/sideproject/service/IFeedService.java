@@ -0,0 +1,21 @@
+package kopo.sideproject.service;
+
+import kopo.sideproject.dto.FeedPageDTO;
+import kopo.sideproject.event.ReviewPostedEvent;
+import kopo.sideproject.event.UserFollowedEvent;
+
+public interface IFeedService {
+
+    // 새 리뷰를 작성자의 팔로워 피드에 전달
+    void dispatchReview(ReviewPostedEvent event);
+
+    // 새로 팔로우한 사용자의 최근 리뷰를 피드에 채움
+    void backfillFollowed(UserFollowedEvent event);
+
+    /**
+     * 로그인한 사용자의 피드를 최신순으로 한 페이지 조회합니다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    FeedPageDTO getFeed(String userEmail, Long cursor, int size);
+}
@@ -1,10 +1,9 @@
 package kopo.sideproject.service;
 
 import kopo.sideproject.dto.FollowDTO;
+import kopo.sideproject.dto.FollowPageDTO;
 import kopo.sideproject.repository.entity.FollowEntity;
 
-import java.util.List;
-
 public interface IFollowService {
 
     // 팔로우 관계 생성
@@ -16,11 +15,11 @@ public interface IFollowService {
     // 팔로워/ 팔로잉 수 조회
     FollowDTO getFollowCounts(Long userId);
 
-    // 팔로워 목록 조회
-    List<FollowDTO> getFollowerList(Long userId);
+    // 팔로워 목록 조회 (cursor: 이전 페이지의 nextCursor, 첫 페이지는 null)
+    FollowPageDTO getFollowerList(Long userId, Long cursor, int size);
 
-    // 팔로잉 목록 조회
-    List<FollowDTO> getFollowingList(Long userId);
+    // 팔로잉 목록 조회 (cursor: 이전 페이지의 nextCursor, 첫 페이지는 null)
+    FollowPageDTO getFollowingList(Long userId, Long cursor, int size);
 
     // 현재 로그인한 사용자가 특정 사용자를 팔로우하고 있는지 여부 확인
     boolean isFollowing(String viewerEmail, Long targetUserId);
@@ -0,0 +1,19 @@
+package kopo.sideproject.service;
+
+import kopo.sideproject.dto.RatingStatsDTO;
+import kopo.sideproject.repository.entity.MovieEntity;
+
+public interface IMovieRatingStatsService {
+
+    // 리뷰 작성 시 집계 반영
+    void reviewAdded(MovieEntity movie, double rating);
+
+    // 리뷰 별점 수정 시 집계 반영
+    void reviewUpdated(MovieEntity movie, double oldRating, double newRating);
+
+    // 리뷰 삭제 시 집계 반영
+    void reviewRemoved(MovieEntity movie, double rating);
+
+    // 영화의 별점 집계 조회
+    RatingStatsDTO getRatingStats(Long tmdbId);
+}
@@ -0,0 +1,14 @@
+package kopo.sideproject.service;
+
+import kopo.sideproject.dto.SimilarMovieDTO;
+
+import java.util.List;
+
+public interface IRecommendationService {
+
+    // 이 영화를 평가한 사용자들이 비슷하게 평가한 영화 (미리 계산된 유사도 순)
+    List<SimilarMovieDTO> getSimilarMovies(Long tmdbId, int limit);
+
+    // 사용자가 평가한 영화들의 유사 영화를 모아 아직 평가하지 않은 영화를 추천
+    List<SimilarMovieDTO> getRecommendations(String userEmail, int limit);
+}
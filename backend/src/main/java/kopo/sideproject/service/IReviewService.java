@@ -1,14 +1,29 @@
 package kopo.sideproject.service;
 
+import kopo.sideproject.dto.RatingCalendarEntryDTO;
+import kopo.sideproject.dto.RatingMonthSummaryDTO;
 import kopo.sideproject.dto.ReviewDTO;
+import kopo.sideproject.dto.ReviewPageDTO;
 import kopo.sideproject.dto.ReviewRequestDTO;
 
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public interface IReviewService {
 
-    List<ReviewDTO> getReviewsForMovies(Long movieId);
+    /**
+     * 영화의 리뷰 목록을 키셋(커서) 방식으로 한 페이지씩 조회합니다.
+     *
+     * @param movieId TMDB 영화 ID
+     * @param sort    정렬 방식 (newest, highest, lowest)
+     * @param cursor  이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size    페이지 크기
+     */
+    ReviewPageDTO getReviewsForMovies(Long movieId, String sort, String cursor, int size);
+
+    Optional<ReviewDTO> getMyReviewForMovie(Long movieId, String userEmail);
 
     void postReview(Long tmdbId, ReviewRequestDTO review, String userEmail);
 
@@ -18,7 +33,12 @@ public interface IReviewService {
 
     List<ReviewDTO> getReviewByUserId(Long userId);
 
-    Map<String, List<ReviewDTO>> getRatingsCalender(Long userId);
+    /**
+     * 한 달 동안의 평가 목록을 날짜(yyyy-MM-dd)별로 묶어 반환합니다.
+     */
+    Map<String, List<RatingCalendarEntryDTO>> getRatingsCalender(Long userId, YearMonth month);
+
+    RatingMonthSummaryDTO getMonthlyRatingSummary(Long userId, YearMonth month);
 
     List<ReviewDTO> getReviewsByUserEmail(String userEmail);
 }
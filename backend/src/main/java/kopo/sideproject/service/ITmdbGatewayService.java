@@ -0,0 +1,24 @@
+package kopo.sideproject.service;
+
+import kopo.sideproject.dto.TmdbMovieDetailDTO;
+import kopo.sideproject.dto.TmdbResponseDTO;
+import reactor.core.publisher.Mono;
+
+/**
+ * 컨트롤러에서 사용하는 TMDB 조회 (tmdb.client 설정에 따라 Feign 또는 WebClient 로 호출)
+ * 응답이 없으면 empty 를 반환합니다.
+ */
+public interface ITmdbGatewayService {
+
+    Mono<TmdbResponseDTO> getNowPlayingMovies(int page);
+
+    Mono<TmdbResponseDTO> getPopularMovies(int page);
+
+    Mono<TmdbResponseDTO> getUpcomingMovies(int page);
+
+    // 로컬 검색 색인을 먼저 검색하고, 부족하면 TMDB 검색 결과를 합침
+    Mono<TmdbResponseDTO> searchMovies(String query, int page);
+
+    // 캐시 => 로컬 상세 정보 저장소 => TMDB 순서로 조회
+    Mono<TmdbMovieDetailDTO> getMovieDetail(Long tmdbId);
+}
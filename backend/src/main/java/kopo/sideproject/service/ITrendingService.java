@@ -0,0 +1,19 @@
+package kopo.sideproject.service;
+
+import kopo.sideproject.dto.TmdbResponseDTO;
+import kopo.sideproject.event.ReviewActivityEvent;
+
+import java.util.List;
+
+public interface ITrendingService {
+
+    // 리뷰 작성/수정/삭제를 영화별 점수에 반영
+    void reviewActivity(ReviewActivityEvent event);
+
+    /**
+     * 최근 리뷰가 많은 영화를 점수 순으로 조회합니다.
+     *
+     * @param window 집계 기간 (1h, 24h, 7d)
+     */
+    List<TmdbResponseDTO.MovieResultDto> getTrendingMovies(String window, int limit);
+}
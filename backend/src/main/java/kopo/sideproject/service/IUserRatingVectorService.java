@@ -0,0 +1,19 @@
+package kopo.sideproject.service;
+
+import kopo.sideproject.dto.TasteMatchDTO;
+import kopo.sideproject.event.RatingVectorMissingEvent;
+
+public interface IUserRatingVectorService {
+
+    // 리뷰 작성/별점 수정 시 사용자 벡터 반영
+    void ratingChanged(Long userId, Long moviePk, double rating);
+
+    // 리뷰 삭제 시 사용자 벡터 반영
+    void ratingRemoved(Long userId, Long moviePk);
+
+    // 로그인한 사용자와 다른 사용자의 취향 일치도
+    TasteMatchDTO getTasteMatch(String viewerEmail, Long otherUserId);
+
+    // 아직 저장되지 않은 사용자 벡터를 리뷰로부터 만들어 저장
+    void backfillVector(RatingVectorMissingEvent event);
+}
@@ -0,0 +1,213 @@
+package kopo.sideproject.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kopo.sideproject.dto.BoxOfficeSnapshotDTO;
+import kopo.sideproject.dto.TmdbResponseDTO;
+import kopo.sideproject.repository.BoxOfficeSnapshotRepository;
+import kopo.sideproject.repository.entity.BoxOfficeSnapshotEntity;
+import kopo.sideproject.util.DateUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 일별 박스오피스(KOFIC + TMDB 조합 결과)를 하루 한 번 미리 만들어 두고 메모리에서 제공하는 서비스
+ * 새 스냅샷을 만드는 동안에는 기존(전날) 스냅샷을 그대로 제공합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoxOfficeSnapshotService {
+
+    private static final String DATE_FORMAT = "yyyyMMdd";
+
+    private static final TypeReference<List<TmdbResponseDTO.MovieResultDto>> MOVIE_LIST_TYPE = new TypeReference<>() {
+    };
+
+    private final KoficService koficService;
+    private final BoxOfficeSnapshotRepository boxOfficeSnapshotRepository;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor applicationTaskExecutor; // 스냅샷이 없을 때 요청 스레드 대신 생성 (AsyncExecutorConfig)
+
+    // 동시에 여러 스냅샷 생성이 실행되지 않도록 막는 락
+    private final ReentrantLock buildLock = new ReentrantLock();
+
+    // 스냅샷이 없을 때 생성을 마지막으로 요청한 시각
+    private final AtomicLong lastBuildRequestedAt = new AtomicLong();
+
+    // 스냅샷이 없을 때 생성을 다시 요청하기까지의 최소 간격
+    @Value("${boxoffice.snapshot.retry-interval:PT1M}")
+    private Duration retryInterval;
+
+    // 현재 제공 중인 스냅샷과 그 이전 스냅샷 (새 스냅샷 생성 실패 시 대체용)
+    private volatile BoxOfficeSnapshotDTO current;
+    private volatile BoxOfficeSnapshotDTO previous;
+
+    /**
+     * 애플리케이션 시작 시 DB에 저장된 최근 스냅샷을 메모리로 불러오고, 어제 날짜 스냅샷이 없으면 새로 생성합니다.
+     * 생성은 KOFIC/TMDB 를 호출하므로 시작 이벤트 스레드를 막지 않도록 비동기로 요청합니다. (그동안은 불러온 스냅샷 제공)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSnapshotOnStartup() {
+        log.info(this.getClass().getSimpleName() + ".loadSnapshotOnStartup Start!");
+
+        List<BoxOfficeSnapshotEntity> latest = boxOfficeSnapshotRepository.findTop2ByOrderByTargetDtDesc();
+
+        if (latest.size() > 1) {
+            previous = toDTO(latest.get(1));
+        }
+        if (!latest.isEmpty()) {
+            current = toDTO(latest.get(0));
+        }
+
+        if (current == null || !DateUtil.getYesterdayDate(DATE_FORMAT).equals(current.targetDt())) {
+            requestBuild();
+        }
+
+        log.info(this.getClass().getSimpleName() + ".loadSnapshotOnStartup End!");
+    }
+
+    /**
+     * 매일 새벽 어제 날짜 기준 박스오피스 스냅샷을 새로 생성합니다.
+     */
+    @Scheduled(cron = "${boxoffice.snapshot.cron:0 10 0 * * *}")
+    public void refreshSnapshot() {
+        buildSnapshot(DateUtil.getYesterdayDate(DATE_FORMAT));
+    }
+
+    /**
+     * 지정한 날짜의 박스오피스 스냅샷을 생성하여 DB에 저장하고, 메모리의 스냅샷을 교체합니다.
+     * 생성에 실패하거나 결과가 비어 있으면 기존 스냅샷을 유지합니다.
+     *
+     * @param targetDt 박스오피스 기준일 (형식: yyyyMMdd)
+     */
+    public void buildSnapshot(String targetDt) {
+        log.info(this.getClass().getSimpleName() + ".buildSnapshot Start!");
+
+        // 이미 다른 스레드가 생성 중이면 중복 생성하지 않음
+        if (!buildLock.tryLock()) {
+            log.info("박스오피스 스냅샷을 이미 생성 중입니다.");
+            return;
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+
+            List<TmdbResponseDTO.MovieResultDto> movies = koficService.getDailyBoxOfficeAndMergeWithTmdb(targetDt);
+
+            if (movies.isEmpty()) {
+                log.warn("{} 박스오피스 결과가 비어 있어 기존 스냅샷을 유지합니다.", targetDt);
+                return;
+            }
+
+            long buildMillis = System.currentTimeMillis() - start;
+            LocalDateTime builtAt = LocalDateTime.now();
+
+            saveSnapshot(targetDt, movies, builtAt, buildMillis);
+
+            BoxOfficeSnapshotDTO snapshot = BoxOfficeSnapshotDTO.builder()
+                    .targetDt(targetDt)
+                    .builtAt(builtAt.toString())
+                    .buildMillis(buildMillis)
+                    .movies(List.copyOf(movies))
+                    .build();
+
+            // 같은 날짜를 다시 생성한 경우에는 이전 스냅샷을 그대로 둠
+            if (current != null && !current.targetDt().equals(targetDt)) {
+                previous = current;
+            }
+            current = snapshot;
+
+            log.info("{} 박스오피스 스냅샷 생성 완료 ({}건, {}ms)", targetDt, movies.size(), buildMillis);
+
+        } catch (Exception e) {
+            log.error("박스오피스 스냅샷 생성 실패! targetDt: " + targetDt, e);
+
+        } finally {
+            buildLock.unlock();
+        }
+
+        log.info(this.getClass().getSimpleName() + ".buildSnapshot End!");
+    }
+
+    /**
+     * 현재 제공 중인 박스오피스 스냅샷을 반환합니다.
+     * 스냅샷이 한 번도 만들어지지 않은 경우에는 빈 결과를 바로 반환하고, 생성은 요청 스레드가 아닌 곳에서 한 번만 실행합니다.
+     */
+    public BoxOfficeSnapshotDTO getSnapshot() {
+        BoxOfficeSnapshotDTO snapshot = (current != null) ? current : previous;
+
+        if (snapshot == null) {
+            requestBuild();
+            return BoxOfficeSnapshotDTO.builder().movies(Collections.emptyList()).build();
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * 스냅샷 생성을 비동기로 요청합니다.
+     * 이미 생성 중이거나 최근 retryInterval 안에 요청한 경우는 무시합니다. (생성 실패 시 요청마다 다시 시도하지 않도록)
+     */
+    private void requestBuild() {
+        long now = System.currentTimeMillis();
+        long last = lastBuildRequestedAt.get();
+
+        if (buildLock.isLocked() || now - last < retryInterval.toMillis()
+                || !lastBuildRequestedAt.compareAndSet(last, now)) {
+            return;
+        }
+
+        try {
+            applicationTaskExecutor.execute(this::refreshSnapshot);
+        } catch (TaskRejectedException e) {
+            log.warn("박스오피스 스냅샷 생성 요청이 거부되었습니다: {}", e.getMessage());
+        }
+    }
+
+    private void saveSnapshot(String targetDt, List<TmdbResponseDTO.MovieResultDto> movies,
+                              LocalDateTime builtAt, long buildMillis) throws JsonProcessingException {
+
+        String moviesJson = objectMapper.writeValueAsString(movies);
+
+        BoxOfficeSnapshotEntity entity = boxOfficeSnapshotRepository.findByTargetDt(targetDt)
+                .orElseGet(() -> BoxOfficeSnapshotEntity.builder().targetDt(targetDt).build());
+
+        entity.updateSnapshot(moviesJson, builtAt, buildMillis);
+
+        boxOfficeSnapshotRepository.save(entity);
+    }
+
+    private BoxOfficeSnapshotDTO toDTO(BoxOfficeSnapshotEntity entity) {
+        List<TmdbResponseDTO.MovieResultDto> movies;
+
+        try {
+            movies = objectMapper.readValue(entity.getMoviesJson(), MOVIE_LIST_TYPE);
+        } catch (JsonProcessingException e) {
+            log.error("저장된 박스오피스 스냅샷을 읽을 수 없습니다. targetDt: " + entity.getTargetDt(), e);
+            return null;
+        }
+
+        return BoxOfficeSnapshotDTO.builder()
+                .targetDt(entity.getTargetDt())
+                .builtAt(entity.getBuiltAt().toString())
+                .buildMillis(entity.getBuildMillis())
+                .movies(movies)
+                .build();
+    }
+}
@@ -0,0 +1,158 @@
+package kopo.sideproject.service.impl;
+
+import kopo.sideproject.repository.CatalogSyncCheckpointRepository;
+import kopo.sideproject.repository.entity.CatalogSyncCheckpointEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * TMDB 영화 목록을 백그라운드에서 페이지 단위로 MOVIE 테이블에 동기화하는 작업
+ * 페이지를 처리할 때마다 진행 상황을 CATALOG_SYNC_CHECKPOINT 에 저장하여, 재시작 후에도 이어서 진행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogSyncService {
+
+    // TMDB 는 목록 API 의 500 페이지 이후를 제공하지 않음
+    private static final int TMDB_MAX_PAGES = 500;
+
+    private final MovieIngestionService movieIngestionService;
+    private final CatalogSyncCheckpointRepository catalogSyncCheckpointRepository;
+
+    // 동기화가 겹쳐서 실행되지 않도록 하는 플래그
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${catalog.sync.enabled:true}")
+    private boolean enabled;
+
+    // 초당 최대 TMDB 요청 수
+    @Value("${catalog.sync.requests-per-second:4}")
+    private double requestsPerSecond;
+
+    // 한 번의 실행에서 처리할 최대 페이지 수 (남은 페이지는 다음 실행에서 이어서 처리)
+    @Value("${catalog.sync.max-pages-per-run:200}")
+    private int maxPagesPerRun;
+
+    // 목록별로 동기화할 최대 페이지 수
+    @Value("${catalog.sync.max-pages-per-list:" + TMDB_MAX_PAGES + "}")
+    private int maxPagesPerList;
+
+    // 다음 TMDB 요청을 보낼 수 있는 시각 (요청 속도 제한용)
+    private long nextRequestAtMillis = 0;
+
+    @Scheduled(initialDelayString = "${catalog.sync.initial-delay:PT1M}", fixedDelayString = "${catalog.sync.interval:PT6H}")
+    public void scheduledSync() {
+        if (!enabled) {
+            return;
+        }
+
+        runSync();
+    }
+
+    /**
+     * 모든 TMDB 목록을 체크포인트부터 이어서 동기화합니다.
+     *
+     * @return 이번 실행에서 처리한 페이지 수 (이미 실행 중이면 -1)
+     */
+    public int runSync() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Catalog sync is already running.");
+            return -1;
+        }
+
+        log.info(this.getClass().getSimpleName() + ".runSync Start!");
+
+        int pageBudget = maxPagesPerRun;
+
+        try {
+            for (MovieIngestionService.TmdbMovieList list : MovieIngestionService.TmdbMovieList.values()) {
+                if (pageBudget <= 0) {
+                    break;
+                }
+
+                pageBudget -= syncList(list, pageBudget);
+            }
+        } finally {
+            running.set(false);
+        }
+
+        int processedPages = maxPagesPerRun - pageBudget;
+
+        log.info("Catalog sync processed {} pages", processedPages);
+        log.info(this.getClass().getSimpleName() + ".runSync End!");
+
+        return processedPages;
+    }
+
+    /**
+     * TMDB 목록 하나를 체크포인트의 다음 페이지부터 동기화합니다.
+     * TMDB 호출에 실패하면 체크포인트를 그대로 두고 다음 실행에서 같은 페이지부터 다시 시도합니다.
+     *
+     * @return 처리한 페이지 수
+     */
+    private int syncList(MovieIngestionService.TmdbMovieList list, int pageBudget) {
+        CatalogSyncCheckpointEntity checkpoint = catalogSyncCheckpointRepository.findById(list.getListName())
+                .orElseGet(() -> CatalogSyncCheckpointEntity.builder()
+                        .listName(list.getListName())
+                        .nextPage(1)
+                        .build());
+
+        int processed = 0;
+
+        while (processed < pageBudget) {
+            int page = checkpoint.getNextPage();
+
+            MovieIngestionService.PageResult result;
+
+            try {
+                waitForRateLimit();
+                result = movieIngestionService.ingestPage(list, page);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.warn("Catalog sync stopped at {} page {}: {}", list.getListName(), page, e.getMessage());
+                break;
+            }
+
+            processed++;
+
+            int lastPage = Math.min(result.totalPages(), Math.min(maxPagesPerList, TMDB_MAX_PAGES));
+
+            if (page >= lastPage) {
+                // 목록 끝까지 동기화 완료 => 다음 실행은 1페이지부터
+                checkpoint.listCompleted(LocalDateTime.now());
+                catalogSyncCheckpointRepository.save(checkpoint);
+
+                log.info("Catalog sync completed list {}", list.getListName());
+                break;
+            }
+
+            checkpoint.pageCompleted(result.totalPages(), LocalDateTime.now());
+            catalogSyncCheckpointRepository.save(checkpoint);
+        }
+
+        return processed;
+    }
+
+    /**
+     * 설정한 초당 요청 수를 넘지 않도록 필요한 만큼 대기합니다.
+     */
+    private void waitForRateLimit() throws InterruptedException {
+        long intervalMillis = (long) (1000 / requestsPerSecond);
+        long now = System.currentTimeMillis();
+
+        if (nextRequestAtMillis > now) {
+            Thread.sleep(nextRequestAtMillis - now);
+        }
+
+        nextRequestAtMillis = Math.max(now, nextRequestAtMillis) + intervalMillis;
+    }
+}
@@ -0,0 +1,232 @@
+package kopo.sideproject.service.impl;
+
+import kopo.sideproject.dto.FeedPageDTO;
+import kopo.sideproject.dto.FollowDTO;
+import kopo.sideproject.dto.ReviewDTO;
+import kopo.sideproject.event.ReviewPostedEvent;
+import kopo.sideproject.event.UserFollowedEvent;
+import kopo.sideproject.repository.FollowRepository;
+import kopo.sideproject.repository.ReviewRepository;
+import kopo.sideproject.repository.UserInfoRepository;
+import kopo.sideproject.service.IFeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 팔로우한 사용자들의 리뷰를 모아 보여주는 활동 피드
+ * <p>
+ * 리뷰가 작성되면 작성자의 팔로워마다 Redis 정렬 집합(feed:{userId}, score = 리뷰 ID)에 리뷰 ID 를 추가합니다. (fan-out on write)
+ * 팔로워가 feed.fanout.max-followers 보다 많은 사용자의 리뷰는 전달하지 않고, 피드를 읽을 때 DB 에서 직접 가져와 합칩니다.
+ * 새로 팔로우하면 그 사용자의 최근 리뷰를 피드에 채우고, 언팔로우한 사용자의 리뷰는 피드를 읽을 때 작성자 기준으로 걸러냅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedService implements IFeedService {
+
+    private static final String FEED_KEY = "feed:";
+
+    // 한 번의 Redis 파이프라인으로 처리할 팔로워 수
+    private static final int DISPATCH_CHUNK_SIZE = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final FollowRepository followRepository;
+    private final UserInfoRepository userInfoRepository;
+    private final ReviewRepository reviewRepository;
+    private final FollowGraphCacheService followGraphCacheService;
+
+    // 사용자별 피드에 보관할 최대 리뷰 수
+    @Value("${feed.max-size:500}")
+    private int maxFeedSize;
+
+    // 팔로워가 이보다 많은 사용자의 리뷰는 피드를 읽을 때 가져옴
+    @Value("${feed.fanout.max-followers:10000}")
+    private long fanoutMaxFollowers;
+
+    // 새로 팔로우했을 때 피드에 채울 최근 리뷰 수
+    @Value("${feed.backfill-size:20}")
+    private int backfillSize;
+
+    @Override
+    @Async("feedDispatchExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void dispatchReview(ReviewPostedEvent event) {
+        log.info(this.getClass().getSimpleName() + ".dispatchReview Start!");
+
+        long followerCount = userInfoRepository.findFollowCounts(event.authorId())
+                .map(FollowDTO::followerCount)
+                .orElse(0);
+
+        if (followerCount > fanoutMaxFollowers) {
+            log.info("Skip fan-out for review {} (author {} has {} followers)", event.reviewId(), event.authorId(), followerCount);
+            return;
+        }
+
+        List<Long> followerIds = followRepository.findFollowerIds(event.authorId());
+
+        String member = String.valueOf(event.reviewId());
+        double score = event.reviewId();
+
+        for (int from = 0; from < followerIds.size(); from += DISPATCH_CHUNK_SIZE) {
+            List<Long> chunk = followerIds.subList(from, Math.min(from + DISPATCH_CHUNK_SIZE, followerIds.size()));
+
+            try {
+                redisTemplate.executePipelined(new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Object execute(RedisOperations operations) {
+                        for (Long followerId : chunk) {
+                            String key = FEED_KEY + followerId;
+
+                            operations.opsForZSet().add(key, member, score);
+                            // 최신 maxFeedSize 개만 남김
+                            operations.opsForZSet().removeRange(key, 0, -(maxFeedSize + 1));
+                        }
+                        return null;
+                    }
+                });
+            } catch (DataAccessException e) {
+                log.warn("Failed to dispatch review {} to {} followers: {}", event.reviewId(), chunk.size(), e.getMessage());
+            }
+        }
+
+        log.info("Dispatched review {} to {} followers", event.reviewId(), followerIds.size());
+        log.info(this.getClass().getSimpleName() + ".dispatchReview End!");
+    }
+
+    /**
+     * 새로 팔로우한 사용자의 최근 리뷰를 팔로우한 사용자의 피드에 채웁니다.
+     * (팔로워가 많아 리뷰를 전달하지 않는 사용자는 피드를 읽을 때 가져오므로 제외)
+     */
+    @Override
+    @Async("feedDispatchExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void backfillFollowed(UserFollowedEvent event) {
+        long followerCount = userInfoRepository.findFollowCounts(event.followingId())
+                .map(FollowDTO::followerCount)
+                .orElse(0);
+
+        if (followerCount > fanoutMaxFollowers) {
+            return;
+        }
+
+        List<ReviewDTO> recent = reviewRepository.findRecentReviewDTOsByAuthors(
+                List.of(event.followingId()), Long.MAX_VALUE, PageRequest.ofSize(backfillSize));
+
+        if (recent.isEmpty()) {
+            return;
+        }
+
+        String key = FEED_KEY + event.followerId();
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    for (ReviewDTO review : recent) {
+                        operations.opsForZSet().add(key, String.valueOf(review.reviewId()), review.reviewId());
+                    }
+                    operations.opsForZSet().removeRange(key, 0, -(maxFeedSize + 1));
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("Failed to backfill feed of user {} with user {}: {}", event.followerId(), event.followingId(), e.getMessage());
+        }
+
+        log.info("Backfilled {} reviews of user {} into feed of user {}", recent.size(), event.followingId(), event.followerId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public FeedPageDTO getFeed(String userEmail, Long cursor, int size) {
+        log.info(this.getClass().getSimpleName() + ".getFeed Start!");
+
+        Long viewerId = followGraphCacheService.resolveUserId(userEmail);
+        long before = (cursor != null) ? cursor : Long.MAX_VALUE;
+
+        Set<Long> followingIds = followGraphCacheService.getFollowingIds(viewerId);
+
+        // 1. 전달받은 리뷰 ID (Redis 장애 시에는 팔로우한 모든 사용자의 리뷰를 직접 가져옴)
+        List<Long> pushedIds;
+        Collection<Long> pullAuthorIds;
+
+        try {
+            pushedIds = readPushedIds(viewerId, before, size + 1);
+            pullAuthorIds = followingIds.isEmpty()
+                    ? List.of()
+                    : userInfoRepository.findIdsWithFollowerCountAbove(followingIds, fanoutMaxFollowers);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read feed of user {}: {}", viewerId, e.getMessage());
+            pushedIds = List.of();
+            pullAuthorIds = followingIds;
+        }
+
+        // 2. 전달받은 리뷰 (언팔로우 전에 전달받은 리뷰는 제외) + 팔로워가 많은 사용자의 최근 리뷰
+        List<ReviewDTO> pushed = pushedIds.isEmpty()
+                ? List.of()
+                : reviewRepository.findReviewDTOsByIds(pushedIds).stream()
+                        .filter(review -> followingIds.contains(review.userId()))
+                        .toList();
+        List<ReviewDTO> pulled = pullAuthorIds.isEmpty()
+                ? List.of()
+                : reviewRepository.findRecentReviewDTOsByAuthors(pullAuthorIds, before, PageRequest.ofSize(size + 1));
+
+        // 3. 리뷰 ID 기준 최신순으로 합침 (삭제된 리뷰는 조회되지 않으므로 자연히 제외)
+        List<ReviewDTO> merged = Stream.concat(pushed.stream(), pulled.stream())
+                .collect(Collectors.toMap(ReviewDTO::reviewId, review -> review, (a, b) -> a))
+                .values().stream()
+                .sorted(Comparator.comparing(ReviewDTO::reviewId).reversed())
+                .toList();
+
+        boolean hasNext = merged.size() > size || pushedIds.size() > size || pulled.size() > size;
+        List<ReviewDTO> page = merged.size() > size ? merged.subList(0, size) : merged;
+
+        Long nextCursor = null;
+
+        if (hasNext) {
+            // 이번 페이지의 가장 오래된 리뷰 (전달받은 리뷰가 모두 삭제된 경우에는 가장 작은 리뷰 ID)
+            nextCursor = page.isEmpty()
+                    ? Collections.min(pushedIds)
+                    : page.get(page.size() - 1).reviewId();
+        }
+
+        log.info(this.getClass().getSimpleName() + ".getFeed End!");
+
+        return FeedPageDTO.builder()
+                .reviews(page)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 피드에서 리뷰 ID 가 before 보다 작은 리뷰를 최신순으로 count 개 읽습니다.
+     */
+    private List<Long> readPushedIds(Long viewerId, long before, int count) {
+        Set<String> members = redisTemplate.opsForZSet()
+                .reverseRangeByScore(FEED_KEY + viewerId, Double.NEGATIVE_INFINITY, before - 1, 0, count);
+
+        if (members == null) {
+            return List.of();
+        }
+
+        return members.stream().map(Long::valueOf).toList();
+    }
+}
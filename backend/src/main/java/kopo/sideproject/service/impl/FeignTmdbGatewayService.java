@@ -0,0 +1,52 @@
+package kopo.sideproject.service.impl;
+
+import kopo.sideproject.dto.TmdbMovieDetailDTO;
+import kopo.sideproject.dto.TmdbResponseDTO;
+import kopo.sideproject.service.ITmdbGatewayService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 기존 Feign 클라이언트(MovieApiService)로 TMDB 를 조회 (기본값, tmdb.client=feign)
+ * 구독 시점에 요청 스레드에서 바로 실행하므로 TMDB 응답을 기다리는 동안 요청 스레드를 점유합니다. (기존 동작과 동일)
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tmdb.client", havingValue = "feign", matchIfMissing = true)
+public class FeignTmdbGatewayService implements ITmdbGatewayService {
+
+    private final MovieApiService movieApiService;
+
+    @Override
+    public Mono<TmdbResponseDTO> getNowPlayingMovies(int page) {
+        return blocking(() -> movieApiService.getNowPlayingMoviesFromTMDB(page));
+    }
+
+    @Override
+    public Mono<TmdbResponseDTO> getPopularMovies(int page) {
+        return blocking(() -> movieApiService.getPopularMovies(page));
+    }
+
+    @Override
+    public Mono<TmdbResponseDTO> getUpcomingMovies(int page) {
+        return blocking(() -> movieApiService.getUpcomingMoviesFromTMDB(page));
+    }
+
+    @Override
+    public Mono<TmdbResponseDTO> searchMovies(String query, int page) {
+        return blocking(() -> movieApiService.searchMovies(query, page));
+    }
+
+    @Override
+    public Mono<TmdbMovieDetailDTO> getMovieDetail(Long tmdbId) {
+        return blocking(() -> movieApiService.getMovieDetailsFromTMDB(tmdbId));
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call);
+    }
+}
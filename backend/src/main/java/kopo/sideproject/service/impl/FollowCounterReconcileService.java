@@ -0,0 +1,63 @@
+package kopo.sideproject.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * USER_INFO 의 팔로워/팔로잉 수를 FOLLOW 테이블 기준으로 다시 계산하여 어긋난 값을 바로잡는 작업
+ * 팔로우/언팔로우 시에는 집계 컬럼을 증감만 하므로, 주기적으로 한 번의 UPDATE 로 전체를 맞춥니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowCounterReconcileService {
+
+    // 실제 팔로우 수와 다른 사용자만 갱신
+    private static final String RECONCILE_SQL =
+            "UPDATE user_info u " +
+                    "LEFT JOIN (SELECT following_id AS user_id, COUNT(*) AS cnt FROM follow GROUP BY following_id) fr " +
+                    "ON fr.user_id = u.id " +
+                    "LEFT JOIN (SELECT follower_id AS user_id, COUNT(*) AS cnt FROM follow GROUP BY follower_id) fg " +
+                    "ON fg.user_id = u.id " +
+                    "SET u.follower_count = COALESCE(fr.cnt, 0), u.following_count = COALESCE(fg.cnt, 0) " +
+                    "WHERE u.follower_count <> COALESCE(fr.cnt, 0) OR u.following_count <> COALESCE(fg.cnt, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 서버 시작 시 한 번 실행 (집계 컬럼 추가 전의 팔로우 관계 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${follow.counter.reconcile-cron:0 30 4 * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * 모든 사용자의 팔로워/팔로잉 수를 다시 계산합니다.
+     *
+     * @return 값이 바로잡힌 사용자 수
+     */
+    public int reconcile() {
+        log.info(this.getClass().getSimpleName() + ".reconcile Start!");
+
+        int repaired = jdbcTemplate.update(RECONCILE_SQL);
+
+        if (repaired > 0) {
+            log.warn("Repaired follow counters for {} users", repaired);
+        }
+
+        log.info(this.getClass().getSimpleName() + ".reconcile End!");
+
+        return repaired;
+    }
+}
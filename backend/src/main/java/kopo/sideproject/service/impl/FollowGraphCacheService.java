@@ -0,0 +1,267 @@
+package kopo.sideproject.service.impl;
+
+import kopo.sideproject.repository.FollowRepository;
+import kopo.sideproject.repository.UserInfoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자가 팔로우하는 사용자 ID 집합을 Redis 에 보관하여 팔로우 여부를 DB 조회 없이 응답하는 캐시
+ * (팔로워/팔로잉 수는 USER_INFO 의 집계 컬럼에서 조회하므로 여기서는 팔로우 관계만 보관)
+ * <p>
+ * follow:following:{userId} : 사용자가 팔로우하는 사용자 ID 집합 (SISMEMBER 로 팔로우 여부 조회)
+ * follow:loaded:{userId} : 집합을 DB 에서 읽어 두었는지 표시 (집합과 같은 TTL)
+ * follow:version:{userId} : 사용자가 팔로우/언팔로우할 때마다 증가 (DB 를 읽는 동안 바뀐 관계가 있으면 읽은 집합을 버림)
+ * user:id-by-email:{email} : 로그인 이메일 => 사용자 ID
+ * <p>
+ * 집합은 처음 조회할 때 DB 에서 읽어 임시 키에 나눠 담은 뒤 RENAME 으로 한 번에 교체하고(긴 Lua 호출로 Redis 를 막지 않도록),
+ * 팔로우/언팔로우가 커밋된 뒤에는 팔로우한 사용자의 집합만 갱신합니다.
+ * 팔로워 목록은 조회에 쓰이지 않으므로 보관하지 않습니다. (팔로워가 많은 사용자를 통째로 올리지 않음)
+ * 캐시가 어긋나더라도 TTL 이 지나면 DB 기준으로 다시 채워지며, Redis 장애 시에는 DB 로 응답합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowGraphCacheService {
+
+    private static final String FOLLOWING_KEY = "follow:following:";
+    private static final String LOADING_KEY = "follow:loading:";
+    private static final String LOADED_KEY = "follow:loaded:";
+    private static final String VERSION_KEY = "follow:version:";
+    private static final String USER_ID_BY_EMAIL_KEY = "user:id-by-email:";
+
+    // 임시 키에 한 번에 추가할 ID 수
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    // 임시 키 TTL (교체 전에 실패해도 남지 않도록)
+    private static final Duration LOADING_TTL = Duration.ofMinutes(1);
+
+    /**
+     * 임시 키에 채운 집합으로 캐시를 교체하고 로딩 표시를 남깁니다. (읽기 전 버전과 지금 버전이 다르면 임시 키만 지움)
+     * KEYS: version, loaded, following, 임시 키 / ARGV: 읽기 전 버전("" = 없음), TTL(ms)
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) or '' " +
+                    "if current ~= ARGV[1] then redis.call('DEL', KEYS[4]) return 0 end " +
+                    "if redis.call('EXISTS', KEYS[4]) == 1 then " +
+                    "redis.call('RENAME', KEYS[4], KEYS[3]) " +
+                    "redis.call('PEXPIRE', KEYS[3], ARGV[2]) " +
+                    "else redis.call('DEL', KEYS[3]) end " +
+                    "redis.call('SET', KEYS[2], '1', 'PX', ARGV[2]) " +
+                    "return 1",
+            Long.class);
+
+    /**
+     * 팔로우 관계 변경을 한 사용자의 집합에 반영합니다. 버전은 항상 올리고, 집합은 로딩된 경우에만 로딩 표시와 같은 TTL 로 갱신
+     * KEYS: version, loaded, set / ARGV: 상대 사용자 ID, 1(추가)/0(삭제), 버전 TTL(ms)
+     */
+    private static final RedisScript<Long> EDGE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[1]) " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+                    "local ttl = redis.call('PTTL', KEYS[2]) " +
+                    "if ttl <= 0 then return 0 end " +
+                    "if ARGV[2] == '1' then redis.call('SADD', KEYS[3], ARGV[1]) else redis.call('SREM', KEYS[3], ARGV[1]) end " +
+                    "redis.call('PEXPIRE', KEYS[3], ttl) " +
+                    "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final FollowRepository followRepository;
+    private final UserInfoRepository userInfoRepository;
+
+    @Value("${follow.cache.ttl:PT24H}")
+    private Duration ttl;
+
+    /**
+     * 로그인 이메일로 사용자 ID 를 조회합니다.
+     *
+     * @throws IllegalArgumentException 사용자가 없는 경우
+     */
+    public Long resolveUserId(String email) {
+        String key = USER_ID_BY_EMAIL_KEY + email;
+
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+
+            if (cached != null) {
+                return Long.valueOf(cached);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Redis 사용자 ID 조회 실패 email: {}, {}", email, e.getMessage());
+        }
+
+        Long userId = userInfoRepository.findIdByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        try {
+            redisTemplate.opsForValue().set(key, String.valueOf(userId), ttl);
+        } catch (DataAccessException e) {
+            log.warn("Redis 사용자 ID 저장 실패 email: {}, {}", email, e.getMessage());
+        }
+
+        return userId;
+    }
+
+    /**
+     * followerId 사용자가 followingId 사용자를 팔로우하고 있는지 확인합니다. (followerId 의 팔로잉 집합만 사용)
+     */
+    public boolean isFollowing(Long followerId, Long followingId) {
+        try {
+            if (!ensureLoaded(followerId)) {
+                return followRepository.existsByIds(followerId, followingId);
+            }
+
+            return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(FOLLOWING_KEY + followerId, String.valueOf(followingId)));
+        } catch (DataAccessException e) {
+            log.warn("Redis 팔로우 여부 조회 실패 {} -> {}, {}", followerId, followingId, e.getMessage());
+            return followRepository.existsByIds(followerId, followingId);
+        }
+    }
+
+    /**
+     * 사용자가 팔로우하는 사용자 ID 목록
+     */
+    public Set<Long> getFollowingIds(Long userId) {
+        try {
+            if (!ensureLoaded(userId)) {
+                return Set.copyOf(followRepository.findFollowingIds(userId));
+            }
+
+            Set<String> members = redisTemplate.opsForSet().members(FOLLOWING_KEY + userId);
+
+            return (members == null) ? Set.of() : members.stream().map(Long::valueOf).collect(Collectors.toSet());
+        } catch (DataAccessException e) {
+            log.warn("Redis 팔로잉 목록 조회 실패 userId: {}, {}", userId, e.getMessage());
+            return Set.copyOf(followRepository.findFollowingIds(userId));
+        }
+    }
+
+    /**
+     * 팔로우가 저장된 트랜잭션이 커밋된 뒤 캐시에 반영합니다.
+     */
+    public void followed(Long followerId, Long followingId) {
+        afterCommit(() -> updateEdge(followerId, followingId, true));
+    }
+
+    /**
+     * 언팔로우가 저장된 트랜잭션이 커밋된 뒤 캐시에 반영합니다.
+     */
+    public void unfollowed(Long followerId, Long followingId) {
+        afterCommit(() -> updateEdge(followerId, followingId, false));
+    }
+
+    /**
+     * 이메일이 바뀌었거나 삭제된 사용자의 이메일 => ID 캐시를 트랜잭션 커밋 뒤 지웁니다.
+     */
+    public void evictUserId(String email) {
+        afterCommit(() -> {
+            try {
+                redisTemplate.delete(USER_ID_BY_EMAIL_KEY + email);
+            } catch (DataAccessException e) {
+                log.warn("Redis 사용자 ID 삭제 실패 email: {}, {}", email, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 팔로우 관계 하나를 팔로우한 사용자의 팔로잉 집합에 반영합니다.
+     * 아직 캐시에 올라오지 않은 사용자는 버전만 올리며, 그 사용자를 DB 에서 읽고 있던 중이라면 읽은 집합은 저장되지 않습니다.
+     */
+    private void updateEdge(Long followerId, Long followingId, boolean add) {
+        try {
+            redisTemplate.execute(EDGE_SCRIPT,
+                    List.of(VERSION_KEY + followerId, LOADED_KEY + followerId, FOLLOWING_KEY + followerId),
+                    String.valueOf(followingId), add ? "1" : "0", String.valueOf(ttl.toMillis()));
+        } catch (DataAccessException e) {
+            // 어긋난 캐시가 남지 않도록 캐시를 버림
+            log.warn("Redis 팔로우 관계 반영 실패 {} -> {}, {}", followerId, followingId, e.getMessage());
+            evict(followerId);
+        }
+    }
+
+    /**
+     * 사용자의 팔로잉 집합이 없으면 DB 에서 읽어 채웁니다.
+     * 임시 키에 나눠 담은 뒤 버전이 그대로일 때만 RENAME 으로 교체하므로, 다른 요청은 채우는 도중의 집합을 보지 않습니다.
+     *
+     * @return 캐시에 집합이 있으면 true, DB 를 읽는 동안 관계가 바뀌어 저장하지 못했으면 false (이번 조회는 DB 로 응답)
+     */
+    private boolean ensureLoaded(Long userId) {
+        if (isLoaded(userId)) {
+            return true;
+        }
+
+        if (!userInfoRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+
+        // DB 를 읽기 전의 버전 (읽는 동안 커밋된 팔로우/언팔로우가 있으면 버전이 달라짐)
+        String version = redisTemplate.opsForValue().get(VERSION_KEY + userId);
+
+        List<Long> followingIds = followRepository.findFollowingIds(userId);
+
+        // 동시에 채우는 요청끼리 섞이지 않도록 요청마다 다른 임시 키 사용
+        String loadingKey = LOADING_KEY + userId + ":" + UUID.randomUUID();
+
+        for (int from = 0; from < followingIds.size(); from += LOAD_CHUNK_SIZE) {
+            String[] chunk = followingIds.subList(from, Math.min(from + LOAD_CHUNK_SIZE, followingIds.size())).stream()
+                    .map(String::valueOf)
+                    .toArray(String[]::new);
+
+            redisTemplate.opsForSet().add(loadingKey, chunk);
+            redisTemplate.expire(loadingKey, LOADING_TTL);
+        }
+
+        Long loaded = redisTemplate.execute(LOAD_SCRIPT,
+                List.of(VERSION_KEY + userId, LOADED_KEY + userId, FOLLOWING_KEY + userId, loadingKey),
+                version == null ? "" : version, String.valueOf(ttl.toMillis()));
+
+        if (loaded == null || loaded == 0) {
+            log.info("Follow graph for user {} changed while loading. Skipped caching", userId);
+            return false;
+        }
+
+        log.info("Loaded follow graph for user {} (following: {})", userId, followingIds.size());
+
+        return true;
+    }
+
+    private boolean isLoaded(Long userId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(LOADED_KEY + userId));
+    }
+
+    private void evict(Long userId) {
+        try {
+            redisTemplate.delete(List.of(LOADED_KEY + userId, FOLLOWING_KEY + userId));
+        } catch (DataAccessException e) {
+            log.warn("Redis 팔로우 캐시 삭제 실패 userId: {}, {}", userId, e.getMessage());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
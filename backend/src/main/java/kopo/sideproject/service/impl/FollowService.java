@@ -1,6 +1,8 @@
 package kopo.sideproject.service.impl;
 
 import kopo.sideproject.dto.FollowDTO;
+import kopo.sideproject.dto.FollowPageDTO;
+import kopo.sideproject.event.UserFollowedEvent;
 import kopo.sideproject.repository.FollowRepository;
 import kopo.sideproject.repository.UserInfoRepository;
 import kopo.sideproject.repository.entity.FollowEntity;
@@ -8,12 +10,12 @@ import kopo.sideproject.repository.entity.UserInfoEntity;
 import kopo.sideproject.service.IFollowService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -23,107 +25,88 @@ public class FollowService implements IFollowService {
 
     private final FollowRepository followRepository;
     private final UserInfoRepository userInfoRepository;
+    private final FollowGraphCacheService followGraphCacheService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void follow(String followerEmail, Long followingId) {
-        // 팔로우를 하는 사람과 받는 사람의 UserInfoEntity를 조회
-        UserInfoEntity follower = userInfoRepository.findByEmail(followerEmail)
-                .orElseThrow(() -> new IllegalArgumentException("팔로우하는 사용자를 찾을 수 없습니다."));
-        UserInfoEntity following = userInfoRepository.findById(followingId)
-                .orElseThrow(() -> new IllegalArgumentException("팔로우 대상 사용자를 찾을 수 없습니다"));
+        // 팔로우를 하는 사람의 ID 는 캐시에서 조회
+        Long followerId = followGraphCacheService.resolveUserId(followerEmail);
 
         // 자기 자신을 팔로우하는 경우 방지
-        if (follower.getEmail().equals(following.getEmail())) {
+        if (followerId.equals(followingId)) {
             throw new IllegalArgumentException("자기 자신을 팔로우할 수 없습니다.");
         }
 
         // 이미 팔로우 관계가 있는지 확인
-        Optional<FollowEntity> existingFollow = followRepository.findByFollowerAndFollowing(follower, following);
-        if (existingFollow.isPresent()) {
+        if (followGraphCacheService.isFollowing(followerId, followingId)) {
             // 이미 팔로우 중이면 아무것도 하지 않음
             log.info("이미 팔로우 중 입니다.");
             return;
         }
 
+        UserInfoEntity following = userInfoRepository.findById(followingId)
+                .orElseThrow(() -> new IllegalArgumentException("팔로우 대상 사용자를 찾을 수 없습니다"));
+
         // 새로운 팔로우 관계 생성 및 저장
         FollowEntity newFollow = FollowEntity.builder()
-                .follower(follower)
+                .follower(userInfoRepository.getReferenceById(followerId))
                 .following(following)
                 .build();
 
         followRepository.save(newFollow);
+
+        // 팔로워 / 팔로잉 수 갱신 (같은 트랜잭션)
+        userInfoRepository.addFollowingCount(followerId, 1);
+        userInfoRepository.addFollowerCount(followingId, 1);
+
+        // 커밋 후 팔로우 그래프 캐시 갱신 / 피드에 최근 리뷰 채우기
+        followGraphCacheService.followed(followerId, followingId);
+        eventPublisher.publishEvent(new UserFollowedEvent(followerId, followingId));
     }
 
     @Override
     public void unfollow(String followerEmail, Long followingId) {
-        UserInfoEntity follower = userInfoRepository.findByEmail(followerEmail)
-                .orElseThrow(() -> new IllegalArgumentException("언팔로우하는 사용자를 찾을 수 없습니다."));
-        UserInfoEntity following = userInfoRepository.findById(followingId)
-                .orElseThrow(() -> new IllegalArgumentException("언팔로우 대상 사용자를 찾을 수 없습니다"));
-
-        // 팔로우 관계를 조회
-        FollowEntity follow = followRepository.findByFollowerAndFollowing(follower, following)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 팔로우 관계입니다."));
+        Long followerId = followGraphCacheService.resolveUserId(followerEmail);
 
         // 팔로우 관계 삭제
-        followRepository.delete(follow);
+        int deleted = followRepository.deleteByIds(followerId, followingId);
+
+        if (deleted == 0) {
+            throw new IllegalArgumentException("존재하지 않는 팔로우 관계입니다.");
+        }
+
+        // 팔로워 / 팔로잉 수 갱신 (같은 트랜잭션)
+        userInfoRepository.addFollowingCount(followerId, -1);
+        userInfoRepository.addFollowerCount(followingId, -1);
 
+        // 커밋 후 팔로우 그래프 캐시 갱신
+        followGraphCacheService.unfollowed(followerId, followingId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public FollowDTO getFollowCounts(Long userId) {
-        UserInfoEntity user = userInfoRepository.findById(userId)
+        // USER_INFO 에 저장된 팔로워 / 팔로잉 수를 기본키로 조회
+        return userInfoRepository.findFollowCounts(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        int followerCount = followRepository.countByFollowing(user);
-        int followingCount = followRepository.countByFollower(user);
-
-        return FollowDTO.builder()
-                .followerCount(followerCount)
-                .followingCount(followingCount)
-                .build();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<FollowDTO> getFollowerList(Long userId) {
-        UserInfoEntity user = userInfoRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-
-        // 'user'를 팔로우하고 있는 (following) 모든 관계를 찾은 뒤,
-        // 그 관계에서 팔로우를 한 사용자(follower)의 정보를 추출합니다.
-        return followRepository.findAllByFollowing(user).stream()
-                .map(followEntity -> {
-                    UserInfoEntity follower = followEntity.getFollower();
-                    return FollowDTO.builder()
-                            .userId(follower.getId())
-                            .email(follower.getEmail())
-                            .nickname(follower.getNickname())
-                            .profileImg(follower.getProfileImg())
-                            .build();
-                })
-                .collect(Collectors.toList());
-    }
+    public FollowPageDTO getFollowerList(Long userId, Long cursor, int size) {
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<FollowDTO> rows = followRepository.findFollowerPage(userId, startCursor(cursor), PageRequest.ofSize(size + 1));
 
+        return toPage(rows, size);
+    }
 
     @Override
     @Transactional(readOnly = true)
-    public List<FollowDTO> getFollowingList(Long userId) {
-        UserInfoEntity user = userInfoRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    public FollowPageDTO getFollowingList(Long userId, Long cursor, int size) {
+        List<FollowDTO> rows = followRepository.findFollowingPage(userId, startCursor(cursor), PageRequest.ofSize(size + 1));
 
-        return followRepository.findAllByFollower(user).stream()
-                .map(followEntity -> {
-                    UserInfoEntity following = followEntity.getFollowing();
-                    return FollowDTO.builder()
-                            .userId(following.getId())
-                            .email(following.getEmail())
-                            .nickname(following.getNickname())
-                            .profileImg(following.getProfileImg())
-                            .build();
-                })
-                .collect(Collectors.toList());
+        return toPage(rows, size);
     }
 
     @Override
@@ -133,14 +116,31 @@ public class FollowService implements IFollowService {
             return false;
         }
 
-        Optional<UserInfoEntity> viewer = userInfoRepository.findByEmail(viewerEmail);
-        Optional<UserInfoEntity> target = userInfoRepository.findById(targetUserId);
+        Long viewerId;
 
-        // 사용자 정보가 없으면 false 반환
-        if(viewer.isEmpty() || target.isEmpty()) {
+        try {
+            viewerId = followGraphCacheService.resolveUserId(viewerEmail);
+        } catch (IllegalArgumentException e) {
+            // 사용자 정보가 없으면 false 반환
             return false;
         }
 
-        return followRepository.findByFollowerAndFollowing(viewer.get(), target.get()).isPresent();
+        return followGraphCacheService.isFollowing(viewerId, targetUserId);
+    }
+
+    // 첫 페이지는 모든 팔로우 관계 ID 보다 큰 값에서 시작
+    private static Long startCursor(Long cursor) {
+        return (cursor != null) ? cursor : Long.MAX_VALUE;
+    }
+
+    private static FollowPageDTO toPage(List<FollowDTO> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<FollowDTO> users = hasNext ? rows.subList(0, size) : rows;
+
+        return FollowPageDTO.builder()
+                .users(users)
+                .nextCursor(hasNext ? users.get(users.size() - 1).followId() : null)
+                .hasNext(hasNext)
+                .build();
     }
 }
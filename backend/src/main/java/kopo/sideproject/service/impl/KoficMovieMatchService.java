@@ -0,0 +1,171 @@
+package kopo.sideproject.service.impl;
+
+import kopo.sideproject.dto.KoficDailyBoxOfficeItem;
+import kopo.sideproject.dto.TmdbResponseDTO;
+import kopo.sideproject.event.MoviesIngestedEvent;
+import kopo.sideproject.repository.KoficMovieMatchRepository;
+import kopo.sideproject.repository.MovieRepository;
+import kopo.sideproject.repository.entity.KoficMovieMatchEntity;
+import kopo.sideproject.repository.entity.MovieEntity;
+import kopo.sideproject.util.CmmUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * KOFIC 박스오피스 영화와 TMDB 영화를 매칭하는 서비스
+ * 처음 매칭할 때만 TMDB 검색을 하고, 결과를 KOFIC_MOVIE_MATCH 테이블에 저장해 다음부터는 DB 조회만 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KoficMovieMatchService {
+
+    private final KoficMovieMatchRepository koficMovieMatchRepository;
+    private final MovieRepository movieRepository;
+    private final MovieApiService movieApiService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * KOFIC 영화에 해당하는 TMDB 영화를 찾습니다.
+     *
+     * @param koficMovie KOFIC 박스오피스 항목
+     * @return 매칭된 영화 (매칭 실패 시 null)
+     */
+    public TmdbResponseDTO.MovieResultDto findTmdbMovie(KoficDailyBoxOfficeItem koficMovie) {
+        String movieNm = koficMovie.movieNm();
+        String openDt = CmmUtil.nvl(koficMovie.openDt()).trim();
+
+        // 1. 이미 매칭된 영화면 DB 에서 바로 반환
+        Optional<MovieEntity> matched = koficMovieMatchRepository.findMatchedMovie(movieNm, openDt);
+
+        if (matched.isPresent()) {
+            return TmdbResponseDTO.MovieResultDto.fromEntity(matched.get());
+        }
+
+        // 2. 처음 보는 영화면 TMDB 에서 영화명으로 검색
+        List<TmdbResponseDTO.MovieResultDto> tmdbResults = movieApiService.searchMovies(movieNm, 1).results();
+
+        if (tmdbResults == null || tmdbResults.isEmpty()) {
+            log.warn("TMDB에서 '" + movieNm + "'에 대한 검색 결과가 없습니다.");
+            return null; // 매칭 실패 시 null 반환
+        }
+
+        // 3. 검색 결과 중 KOFIC 개봉일과 TMDB 개봉일이 가장 가까운 영화를 선택
+        TmdbResponseDTO.MovieResultDto best = pickClosestRelease(tmdbResults, openDt);
+
+        // 4. 매칭 결과 저장
+        saveMatch(movieNm, openDt, best);
+
+        return best;
+    }
+
+    /**
+     * 개봉일 차이가 가장 작은 후보를 고릅니다.
+     * 개봉일을 알 수 없는 후보는 뒤로 밀리며, 차이가 같으면 TMDB 검색 순서를 따릅니다.
+     */
+    private TmdbResponseDTO.MovieResultDto pickClosestRelease(List<TmdbResponseDTO.MovieResultDto> candidates, String openDt) {
+        LocalDate koficOpenDate = parseDate(openDt);
+
+        if (koficOpenDate == null) {
+            return candidates.get(0);
+        }
+
+        return candidates.stream()
+                .min(Comparator.comparingLong(candidate -> releaseDistance(koficOpenDate, candidate.releaseDate())))
+                .orElse(candidates.get(0));
+    }
+
+    private long releaseDistance(LocalDate koficOpenDate, String releaseDate) {
+        LocalDate tmdbReleaseDate = parseDate(releaseDate);
+
+        if (tmdbReleaseDate == null) {
+            return Long.MAX_VALUE;
+        }
+
+        return Math.abs(ChronoUnit.DAYS.between(koficOpenDate, tmdbReleaseDate));
+    }
+
+    private LocalDate parseDate(String date) {
+        if (CmmUtil.nvl(date).isBlank()) {
+            return null;
+        }
+
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 매칭 결과와 영화 기본 정보를 저장합니다.
+     * 다른 스레드가 같은 영화나 매칭을 먼저 저장한 경우(유니크 제약 위반)는 무시합니다.
+     */
+    private void saveMatch(String movieNm, String openDt, TmdbResponseDTO.MovieResultDto movie) {
+        // 매칭 조회 시 MOVIE 테이블과 조인하므로 영화 정보가 없으면 먼저 저장
+        if (!saveMovieIfAbsent(movie)) {
+            return;
+        }
+
+        try {
+            koficMovieMatchRepository.save(KoficMovieMatchEntity.builder()
+                    .movieNm(movieNm)
+                    .openDt(openDt)
+                    .tmdbId(movie.id())
+                    .matchedAt(LocalDateTime.now())
+                    .build());
+
+            log.info("'{}'({}) => TMDB {} 매칭 저장 완료", movieNm, openDt, movie.id());
+
+        } catch (DataIntegrityViolationException e) {
+            log.info("'{}'({}) 매칭 정보가 이미 저장되어 있습니다.", movieNm, openDt);
+        }
+    }
+
+    /**
+     * MOVIE 테이블에 영화가 없으면 저장합니다.
+     * 다른 스레드가 같은 영화를 먼저 저장해 실패한 경우에도 저장된 영화를 다시 조회해 매칭은 계속 저장합니다.
+     *
+     * @return MOVIE 테이블에 영화가 있는지 여부
+     */
+    private boolean saveMovieIfAbsent(TmdbResponseDTO.MovieResultDto movie) {
+        if (movieRepository.findByTmdbId(movie.id()).isPresent()) {
+            return true;
+        }
+
+        try {
+            movieRepository.save(MovieEntity.builder()
+                    .tmdbId(movie.id())
+                    .title(movie.title())
+                    .originalTitle(movie.originalTitle())
+                    .posterPath(movie.posterPath())
+                    .overview(movie.overview())
+                    .voteAverage(movie.voteAverage())
+                    .popularity(movie.popularity())
+                    .releaseDate(movie.releaseDate())
+                    .build());
+
+            eventPublisher.publishEvent(new MoviesIngestedEvent(List.of(movie.id())));
+            return true;
+
+        } catch (DataIntegrityViolationException e) {
+            boolean saved = movieRepository.findByTmdbId(movie.id()).isPresent();
+
+            if (!saved) {
+                log.warn("TMDB {} 영화 저장 실패: {}", movie.id(), e.getMessage());
+            }
+            return saved;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import kopo.sideproject.dto.TmdbResponseDTO;
 import kopo.sideproject.service.IKoficApiService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -12,6 +13,12 @@ import java.time.format.DateTimeFormatter;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -20,18 +27,33 @@ import java.util.stream.Collectors;
 public class KoficService {
 
     private final IKoficApiService koficApiService;
-    private final MovieApiService movieApiService; // TMDB 검색을 위해 기존 서비스 주입
+    private final KoficMovieMatchService koficMovieMatchService; // KOFIC 영화 => TMDB 영화 매칭
+    private final ExecutorService tmdbLookupExecutor; // TMDB 병렬 검색용 스레드 풀 (TmdbExecutorConfig)
+
+    // 영화 1건당 TMDB 검색 대기 시간 (초과 시 해당 영화는 결과에서 제외)
+    @Value("${tmdb.lookup.timeout-millis:3000}")
+    private long lookupTimeoutMillis;
 
     /**
      * KOFIC 일별 박스오피스 API를 호출하고, 각 영화의 상세 정보를 TMDB에서 가져와 조합합니다.
      */
     public List<TmdbResponseDTO.MovieResultDto> getDailyBoxOfficeAndMergeWithTmdb() {
-        log.info(this.getClass().getSimpleName() + ".getDailyBoxOfficeAndMergeWithTmdb Start!");
-
-        // 1. 어제 날짜를 yyyyMMdd 형식으로 계산
+        // 어제 날짜를 yyyyMMdd 형식으로 계산
         String targetDt = LocalDate.now().minusDays(1).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
 
-        // 2. KOFIC API 호출
+        return getDailyBoxOfficeAndMergeWithTmdb(targetDt);
+    }
+
+    /**
+     * 지정한 날짜의 KOFIC 일별 박스오피스를 조회하고 TMDB 정보와 조합합니다.
+     *
+     * @param targetDt 조회할 날짜 (형식: yyyyMMdd)
+     */
+    public List<TmdbResponseDTO.MovieResultDto> getDailyBoxOfficeAndMergeWithTmdb(String targetDt) {
+        log.info(this.getClass().getSimpleName() + ".getDailyBoxOfficeAndMergeWithTmdb Start!");
+        log.info("targetDt: " + targetDt);
+
+        // 1. KOFIC API 호출
         List<KoficDailyBoxOfficeItem> koficMovies = koficApiService.getDailyBoxOffice(targetDt)
                 .boxOfficeResult()
                 .dailyBoxOfficeList();
@@ -41,30 +63,58 @@ public class KoficService {
             return Collections.emptyList();
         }
 
-        // 3. KOFIC 영화 목록을 순회하며 TMDB 정보와 조합
-        List<TmdbResponseDTO.MovieResultDto> mergedList = koficMovies.stream()
-                .map(koficMovie -> {
-                    try {
-                        // 4. TMDB에서 영화명으로 검색
-                        List<TmdbResponseDTO.MovieResultDto> tmdbResults = movieApiService.searchMovies(koficMovie.movieNm(), 1).results();
-
-                        if (tmdbResults != null && !tmdbResults.isEmpty()) {
-                            // 5. 검색 결과의 첫 번째 영화를 매칭된 영화로 간주
-                            return tmdbResults.get(0);
-                        } else {
-                            log.warn("TMDB에서 '" + koficMovie.movieNm() + "'에 대한 검색 결과가 없습니다.");
-                            return null; // 매칭 실패 시 null 반환
-                        }
-                    } catch (Exception e) {
-                        log.error("'" + koficMovie.movieNm() + "' 처리 중 오류 발생", e);
-                        return null;
-                    }
-                })
+        // 2. KOFIC 영화별 TMDB 매칭을 병렬로 요청 (각 요청마다 개별 타임아웃 적용)
+        List<CompletableFuture<TmdbResponseDTO.MovieResultDto>> futures = koficMovies.stream()
+                .map(this::findTmdbMovieAsync)
+                .toList();
+
+        // 3. KOFIC 순위 순서대로 결과를 모음 (타임아웃/실패한 영화는 제외하고 부분 목록 반환)
+        List<TmdbResponseDTO.MovieResultDto> mergedList = futures.stream()
+                .map(CompletableFuture::join)
                 .filter(Objects::nonNull) // null인 항목(매칭 실패)은 리스트에서 제거
                 .collect(Collectors.toList());
 
+        if (mergedList.size() < koficMovies.size()) {
+            log.warn("박스오피스 {}건 중 {}건만 TMDB 와 매칭되었습니다.", koficMovies.size(), mergedList.size());
+        }
+
         log.info(this.getClass().getSimpleName() + ".getDailyBoxOfficeAndMergeWithTmdb End!");
 
         return mergedList;
     }
+
+    /**
+     * KOFIC 영화 1건의 TMDB 매칭을 스레드 풀에서 실행합니다.
+     * 타임아웃이 지나면 null 을 반환하고 작업을 취소(대기 중이면 실행하지 않고, 실행 중이면 인터럽트)하며,
+     * 스레드 풀의 대기열이 가득 차 거부된 경우에도 null 을 반환합니다.
+     */
+    private CompletableFuture<TmdbResponseDTO.MovieResultDto> findTmdbMovieAsync(KoficDailyBoxOfficeItem koficMovie) {
+        CompletableFuture<TmdbResponseDTO.MovieResultDto> result = new CompletableFuture<>();
+        Future<?> task;
+
+        try {
+            task = tmdbLookupExecutor.submit(() -> {
+                try {
+                    result.complete(koficMovieMatchService.findTmdbMovie(koficMovie));
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("'{}' TMDB 매칭 요청이 거부되었습니다: {}", koficMovie.movieNm(), e.getMessage());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return result
+                .orTimeout(lookupTimeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    if (e instanceof TimeoutException) {
+                        task.cancel(true);
+                        log.warn("'{}' TMDB 매칭이 {}ms 안에 끝나지 않아 취소했습니다.", koficMovie.movieNm(), lookupTimeoutMillis);
+                    } else {
+                        log.error("'" + koficMovie.movieNm() + "' 처리 중 오류 발생", e);
+                    }
+                    return null;
+                });
+    }
 }
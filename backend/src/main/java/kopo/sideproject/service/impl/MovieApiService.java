@@ -5,20 +5,28 @@ import kopo.sideproject.dto.TmdbResponseDTO;
 import kopo.sideproject.repository.MovieRepository;
 import kopo.sideproject.repository.entity.MovieEntity;
 import kopo.sideproject.service.IMovieApiService;
+import kopo.sideproject.util.SingleFlight;
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MovieApiService {
 
+    // 검색 결과 한 페이지의 영화 수 (TMDB 검색과 동일)
+    private static final int SEARCH_PAGE_SIZE = 20;
+
     @Value("${tmdb.api.key}")
     private String apiKey;
 
@@ -27,35 +35,26 @@ public class MovieApiService {
 
     private final MovieRepository movieRepository;
 
-    public void saveNowPlayingMovies(int page) {
-        log.info(this.getClass().getName() + ".saveNowPlayingMovies Start!");
-
-        TmdbResponseDTO response = movieApiService.getNowPlayingMovies( page, "ko-KR", "KR");
+    // TMDB 응답 2단계 캐시 (메모리 + Redis)
+    private final TmdbCacheService tmdbCacheService;
 
-        if (response != null && response.results() != null) {
+    // TMDB 영화 상세 정보 로컬 저장소
+    private final MovieDetailMirrorService movieDetailMirrorService;
 
-            response.results().forEach(movieDto -> {
-                // 이미 해당 영화가 DB에 저장되어 있는지 tmdbId로 확인
-                if (!movieRepository.findByTmdbId(movieDto.id()).isPresent()) {
-                    MovieEntity movieEntity = MovieEntity.builder()
-                            .tmdbId(movieDto.id())
-                            .title(movieDto.title())
-                            .posterPath(movieDto.posterPath())
-                            .overview(movieDto.overview())
-                            .voteAverage(movieDto.voteAverage())
-                            .releaseDate(movieDto.releaseDate())
-                            .build();
+    // 로컬 영화 검색 색인
+    private final MovieSearchIndexService movieSearchIndexService;
 
-                    movieRepository.save(movieEntity);
-                    log.info(movieDto.title() + " 저장 완료");
-                }
-            });
+    // 로컬 검색을 사용할지 여부
+    @Value("${search.local.enabled:true}")
+    private boolean localSearchEnabled;
 
-        }
+    // 로컬 검색 결과가 이 수 이상이면 TMDB 검색을 하지 않음
+    @Value("${search.local.min-hits:5}")
+    private int minLocalHits;
 
-        log.info(this.getClass().getName() + ".saveNowPlayingMovies End!");
-
-    }
+    // 같은 TMDB 요청이 동시에 여러 번 들어오면 캐시 조회(Redis 포함)와 TMDB 호출을 한 번만 실행하고 결과를 공유
+    // (캐시 바깥에서 합치므로 캐시 적중 여부나 캐시 설정과 관계없이 동작)
+    private final SingleFlight singleFlight = new SingleFlight();
 
     public List<MovieEntity> getNowPlayingMovies() {
         log.info(this.getClass().getName() + ".getNowPlayingMovies Start!");
@@ -85,7 +84,9 @@ public class MovieApiService {
         log.info(this.getClass().getName() + ".getPopularMovies Start!");
 
         // Feign Client를 사용하여 TMDB API 호출
-        TmdbResponseDTO response = movieApiService.getPopularMovies( page, "ko-KR");
+        TmdbResponseDTO response = cachedCall("popular:" + page,
+                TmdbCacheService.Family.POPULAR, "page=" + page, TmdbResponseDTO.class,
+                () -> movieApiService.getPopularMovies(page, "ko-KR"));
 
         log.info(this.getClass().getName() + ".getPopularMovies End!");
 
@@ -96,7 +97,9 @@ public class MovieApiService {
         log.info(this.getClass().getName() + ".getNowPlayingMoviesFromTMDB Start!");
 
         // Feign Client를 사용하여 TMDB API 호출
-        TmdbResponseDTO response = movieApiService.getNowPlayingMovies(page, "ko-KR", "KR");
+        TmdbResponseDTO response = cachedCall("now-playing:" + page,
+                TmdbCacheService.Family.NOW_PLAYING, "page=" + page, TmdbResponseDTO.class,
+                () -> movieApiService.getNowPlayingMovies(page, "ko-KR", "KR"));
 
         log.info(this.getClass().getName() + ".getNowPlayingMoviesFromTMDB End!");
 
@@ -106,19 +109,98 @@ public class MovieApiService {
     public TmdbResponseDTO searchMovies(String query, int page) {
         log.info(this.getClass().getName() + ".searchMovies Start!");
 
-        TmdbResponseDTO responseDTO = movieApiService.getSearchMovies( query, page, "ko-KR");
+        // 1. 로컬 검색 색인에서 먼저 검색
+        MovieSearchIndexService.SearchResult local = searchLocal(query, page);
+
+        // 2. 로컬 결과가 충분하면 TMDB 를 호출하지 않음
+        if (isLocalSufficient(local)) {
+            log.info("Local search hits for '{}': {} (title: {})", query, local.totalHits(), local.titleHits());
+            log.info(this.getClass().getName() + ".searchMovies End!");
+
+            return toSearchResponse(local);
+        }
+
+        // 3. 부족하면 TMDB 검색 (대소문자/앞뒤 공백만 다른 검색어는 같은 캐시 항목을 사용)
+        String cacheKey = searchCacheKey(query, page);
+
+        TmdbResponseDTO responseDTO = cachedCall("search:" + cacheKey,
+                TmdbCacheService.Family.SEARCH, cacheKey, TmdbResponseDTO.class,
+                () -> movieApiService.getSearchMovies(query, page, "ko-KR"));
 
         log.info(this.getClass().getName() + ".searchMovies End!");
 
-        return responseDTO;
+        // 4. 첫 페이지는 로컬 결과를 앞에 두고, 이미 포함된 영화는 TMDB 결과에서 제외
+        return mergeSearchResults(local, responseDTO, page);
+    }
+
+    /**
+     * 로컬 검색 색인에서 한 페이지를 검색합니다. (로컬 검색을 사용하지 않으면 빈 결과)
+     */
+    public MovieSearchIndexService.SearchResult searchLocal(String query, int page) {
+        return localSearchEnabled
+                ? movieSearchIndexService.search(query, (Math.max(page, 1) - 1) * SEARCH_PAGE_SIZE, SEARCH_PAGE_SIZE)
+                : MovieSearchIndexService.SearchResult.empty();
+    }
+
+    /**
+     * 로컬 검색 결과만으로 응답해도 되는지 여부
+     * 제목/원제가 일치한 영화 수로 판단합니다. (줄거리에서만 일치한 영화는 로컬에 없는 제목을 대신하지 못함)
+     */
+    public boolean isLocalSufficient(MovieSearchIndexService.SearchResult local) {
+        return local.titleHits() >= minLocalHits;
+    }
+
+    public TmdbResponseDTO toSearchResponse(MovieSearchIndexService.SearchResult local) {
+        int totalPages = (int) ((local.totalHits() + SEARCH_PAGE_SIZE - 1) / SEARCH_PAGE_SIZE);
+        return new TmdbResponseDTO(local.movies(), totalPages, (int) local.totalHits());
+    }
+
+    /**
+     * 첫 페이지에서만 로컬 검색 결과를 앞에 두고, 이미 포함된 영화는 TMDB 검색 결과에서 제외합니다. (한 페이지 크기까지)
+     * 2페이지부터는 TMDB 페이지를 그대로 사용합니다. (페이지마다 로컬 결과를 섞으면 페이지 크기와 전체 수가 맞지 않고 같은 영화가 반복됨)
+     */
+    public TmdbResponseDTO mergeSearchResults(MovieSearchIndexService.SearchResult local, TmdbResponseDTO tmdbResponse, int page) {
+        if (page > 1 || local.movies().isEmpty() || tmdbResponse == null || tmdbResponse.results() == null) {
+            return tmdbResponse;
+        }
+
+        Set<Long> localIds = local.movies().stream()
+                .map(TmdbResponseDTO.MovieResultDto::id)
+                .collect(Collectors.toSet());
+
+        List<TmdbResponseDTO.MovieResultDto> merged = new ArrayList<>(local.movies());
+        tmdbResponse.results().stream()
+                .filter(movie -> !localIds.contains(movie.id()))
+                .limit(Math.max(SEARCH_PAGE_SIZE - merged.size(), 0))
+                .forEach(merged::add);
+
+        return new TmdbResponseDTO(merged, tmdbResponse.totalPages(), tmdbResponse.totalResults());
+    }
+
+    /**
+     * 같은 키의 동시 요청을 하나의 캐시 조회(캐시 미스 시 TMDB 호출)로 합칩니다.
+     * 이전 응답으로 대신한 경우 결과를 함께 받은 모든 요청에 각각 표시합니다.
+     */
+    private <T> T cachedCall(String flightKey, TmdbCacheService.Family family, String cacheKey, Class<T> type, Supplier<T> loader) {
+        TmdbCacheService.Lookup<T> result = singleFlight.execute(flightKey,
+                () -> tmdbCacheService.lookup(family, cacheKey, type, loader));
+
+        return tmdbCacheService.unwrap(result);
+    }
+
+    // 대소문자/앞뒤 공백만 다른 검색어는 같은 캐시 항목을 사용
+    public static String searchCacheKey(String query, int page) {
+        return "query=" + query.trim().toLowerCase() + "&page=" + page;
     }
 
     public TmdbMovieDetailDTO getMovieDetailsFromTMDB(Long tmdbId) {
         log.info(this.getClass().getName() + ".getMovieDetailsFromTMDB Start!");
 
         try {
-            // Feign Client를 사용하여 TMDB API에서 영화 상세 정보 호출
-                        TmdbMovieDetailDTO rDTO = movieApiService.getMovieDetailsByTmdbId(tmdbId, "ko-KR", "credits,images", "en,null");
+            // 캐시 => 로컬 상세 정보 저장소 => TMDB API 순서로 영화 상세 정보 조회
+            TmdbMovieDetailDTO rDTO = cachedCall("detail:" + tmdbId,
+                    TmdbCacheService.Family.DETAIL, "id=" + tmdbId, TmdbMovieDetailDTO.class,
+                    () -> movieDetailMirrorService.getOrFetch(tmdbId));
 
             log.info(this.getClass().getName() + ".getMovieDetailsFromTMDB End!");
 
@@ -134,7 +216,9 @@ public class MovieApiService {
         log.info(this.getClass().getName() + ".getUpcomingMovies Start!");
 
         // Feign Client를 사용하여 TMDB API 호출
-        TmdbResponseDTO response = movieApiService.getUpcomingMovies(page, "ko-KR", "KR");
+        TmdbResponseDTO response = cachedCall("upcoming:" + page,
+                TmdbCacheService.Family.UPCOMING, "page=" + page, TmdbResponseDTO.class,
+                () -> movieApiService.getUpcomingMovies(page, "ko-KR", "KR"));
 
         log.info(this.getClass().getName() + ".getUpcomingMovies End!");
 
@@ -0,0 +1,185 @@
+package kopo.sideproject.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kopo.sideproject.dto.TmdbMovieDetailDTO;
+import kopo.sideproject.repository.MovieDetailRepository;
+import kopo.sideproject.repository.entity.MovieDetailEntity;
+import kopo.sideproject.service.IMovieApiService;
+import kopo.sideproject.util.UpstreamErrorUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * TMDB 영화 상세 정보를 로컬 DB(MOVIE_DETAIL)에 저장해 두고 제공하는 서비스
+ * 한 번 가져온 영화는 DB 에서 바로 응답하고, 오래된 정보는 백그라운드 작업에서 TMDB 로부터 갱신합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovieDetailMirrorService {
+
+    // TMDB 상세 조회 시 함께 가져올 정보 (출연진, 이미지)
+    public static final String APPEND_TO_RESPONSE = "credits,images";
+
+    private final IMovieApiService movieApiService;
+    private final MovieDetailRepository movieDetailRepository;
+    private final ObjectMapper objectMapper;
+
+    // 이 시간이 지난 상세 정보는 갱신 대상
+    @Value("${tmdb.mirror.fresh-duration:24h}")
+    private Duration freshDuration;
+
+    // 한 번의 갱신 작업에서 TMDB 로부터 다시 가져올 최대 영화 수
+    @Value("${tmdb.mirror.refresh-batch-size:50}")
+    private int refreshBatchSize;
+
+    // 갱신에 실패한 영화를 다시 시도하기까지의 대기 시간 (실패할 때마다 두 배, 최대 max-retry-backoff)
+    @Value("${tmdb.mirror.retry-backoff:1h}")
+    private Duration retryBackoff;
+
+    @Value("${tmdb.mirror.max-retry-backoff:7d}")
+    private Duration maxRetryBackoff;
+
+    /**
+     * 영화 상세 정보를 반환합니다.
+     * 로컬에 저장된 정보가 있으면 (오래되었더라도) 바로 반환하고, 없을 때만 TMDB 에서 가져와 저장합니다.
+     *
+     * @param tmdbId TMDB 영화 ID
+     */
+    public TmdbMovieDetailDTO getOrFetch(Long tmdbId) {
+        Optional<TmdbMovieDetailDTO> local = findLocal(tmdbId);
+
+        if (local.isPresent()) {
+            return local.get();
+        }
+
+        log.info("Movie detail {} not found in local mirror. Fetching from TMDB", tmdbId);
+
+        return fetchAndStore(tmdbId);
+    }
+
+    /**
+     * 로컬 저장소에서 영화 상세 정보를 조회합니다.
+     */
+    public Optional<TmdbMovieDetailDTO> findLocal(Long tmdbId) {
+        return movieDetailRepository.findById(tmdbId)
+                .map(this::toDTO);
+    }
+
+    /**
+     * TMDB 에서 영화 상세 정보를 가져와 로컬 저장소에 저장(또는 갱신)합니다.
+     */
+    public TmdbMovieDetailDTO fetchAndStore(Long tmdbId) {
+        TmdbMovieDetailDTO detail = movieApiService.getMovieDetailsByTmdbId(tmdbId, "ko-KR", APPEND_TO_RESPONSE, "en,null");
+
+        if (detail == null) {
+            return null;
+        }
+
+        store(tmdbId, detail);
+
+        return detail;
+    }
+
+    /**
+     * 가져온 영화 상세 정보를 로컬 저장소에 저장(또는 갱신)합니다. 저장에 실패해도 예외를 던지지 않습니다.
+     */
+    public void store(Long tmdbId, TmdbMovieDetailDTO detail) {
+        try {
+            String detailJson = objectMapper.writeValueAsString(detail);
+
+            MovieDetailEntity entity = movieDetailRepository.findById(tmdbId)
+                    .orElseGet(() -> MovieDetailEntity.builder().tmdbId(tmdbId).build());
+
+            entity.updateDetail(detail.title(), detailJson, LocalDateTime.now());
+
+            movieDetailRepository.save(entity);
+
+        } catch (Exception e) {
+            // 저장에 실패해도 가져온 상세 정보는 그대로 응답
+            log.error("Failed to store movie detail {} in local mirror", tmdbId, e);
+        }
+    }
+
+    /**
+     * 오래된 상세 정보를 TMDB 에서 다시 가져옵니다.
+     * TMDB 호출에 실패한 영화는 기존 정보를 유지하고 실패 횟수에 따라 늦춰서 다시 시도하며,
+     * TMDB 에서 삭제된(404) 영화는 더 이상 갱신하지 않습니다. (실패한 영화가 매번 갱신 목록 앞을 차지하지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${tmdb.mirror.refresh-interval:PT10M}")
+    public void refreshStaleDetails() {
+        log.info(this.getClass().getSimpleName() + ".refreshStaleDetails Start!");
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(freshDuration);
+
+        List<Long> staleIds = movieDetailRepository.findStaleTmdbIds(staleBefore, now, PageRequest.ofSize(refreshBatchSize));
+
+        int refreshed = 0;
+
+        for (Long tmdbId : staleIds) {
+            try {
+                if (fetchAndStore(tmdbId) != null) {
+                    refreshed++;
+                } else {
+                    recordRefreshFailure(tmdbId, false);
+                }
+            } catch (Exception e) {
+                boolean notFound = UpstreamErrorUtil.isNotFound(e);
+
+                log.warn("Failed to refresh movie detail {}{}: {}", tmdbId, notFound ? " (removed from TMDB)" : "", e.getMessage());
+                recordRefreshFailure(tmdbId, notFound);
+            }
+        }
+
+        log.info("Refreshed {}/{} stale movie details", refreshed, staleIds.size());
+        log.info(this.getClass().getSimpleName() + ".refreshStaleDetails End!");
+    }
+
+    /**
+     * 갱신 실패를 기록합니다. 삭제된 영화는 갱신 대상에서 빼고, 그 외에는 다음 시도 시각을 늦춥니다.
+     */
+    private void recordRefreshFailure(Long tmdbId, boolean removed) {
+        try {
+            movieDetailRepository.findById(tmdbId).ifPresent(entity -> {
+                if (removed) {
+                    entity.markRemovedFromTmdb();
+                } else {
+                    entity.refreshFailed(LocalDateTime.now().plus(nextBackoff(entity.getRefreshFailures())));
+                }
+
+                movieDetailRepository.save(entity);
+            });
+        } catch (Exception e) {
+            log.error("Failed to record refresh failure of movie detail {}", tmdbId, e);
+        }
+    }
+
+    /**
+     * 연속 실패 횟수에 따른 다음 시도까지의 대기 시간 (retryBackoff, 2배, 4배, ... 최대 maxRetryBackoff)
+     */
+    private Duration nextBackoff(int previousFailures) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(previousFailures, 20));
+
+        return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+    }
+
+    private TmdbMovieDetailDTO toDTO(MovieDetailEntity entity) {
+        try {
+            return objectMapper.readValue(entity.getDetailJson(), TmdbMovieDetailDTO.class);
+        } catch (JsonProcessingException e) {
+            log.error("Stored movie detail {} is not readable", entity.getTmdbId(), e);
+            return null;
+        }
+    }
+}
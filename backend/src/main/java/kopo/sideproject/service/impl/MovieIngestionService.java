@@ -0,0 +1,214 @@
+package kopo.sideproject.service.impl;
+
+import kopo.sideproject.dto.IngestionResultDTO;
+import kopo.sideproject.dto.TmdbResponseDTO;
+import kopo.sideproject.event.MoviesIngestedEvent;
+import kopo.sideproject.repository.MovieRepository;
+import kopo.sideproject.service.IMovieApiService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * TMDB 영화 목록(현재 상영작, 인기작, 개봉 예정작)을 MOVIE 테이블에 수집하는 서비스
+ * 페이지마다 IN 쿼리 한 번으로 기존 영화를 확인하고, 신규/기존 영화를 각각 JDBC 배치로 저장합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovieIngestionService {
+
+    /**
+     * 수집 대상 TMDB 영화 목록
+     */
+    public enum TmdbMovieList {
+        NOW_PLAYING("now-playing"),
+        POPULAR("popular"),
+        UPCOMING("upcoming");
+
+        private final String listName;
+
+        TmdbMovieList(String listName) {
+            this.listName = listName;
+        }
+
+        public String getListName() {
+            return listName;
+        }
+
+        public static TmdbMovieList fromListName(String listName) {
+            return Arrays.stream(values())
+                    .filter(list -> list.listName.equals(listName))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown TMDB movie list: " + listName));
+        }
+
+        TmdbResponseDTO fetch(IMovieApiService movieApiService, int page) {
+            return switch (this) {
+                case NOW_PLAYING -> movieApiService.getNowPlayingMovies(page, "ko-KR", "KR");
+                case POPULAR -> movieApiService.getPopularMovies(page, "ko-KR");
+                case UPCOMING -> movieApiService.getUpcomingMovies(page, "ko-KR", "KR");
+            };
+        }
+    }
+
+    /**
+     * 한 페이지 수집 결과
+     */
+    public record PageResult(int inserted, int updated, int totalPages) {
+    }
+
+    private static final String INSERT_SQL =
+            "INSERT INTO movie (tmdb_id, movie_title, original_title, release_date, poster_path, overview, vote_average, popularity) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+                    // 동시에 다른 수집 작업이 먼저 저장한 경우에도 실패하지 않도록 갱신으로 처리
+                    "ON DUPLICATE KEY UPDATE movie_title = VALUES(movie_title), original_title = VALUES(original_title), " +
+                    "release_date = VALUES(release_date), " +
+                    "poster_path = VALUES(poster_path), overview = VALUES(overview), vote_average = VALUES(vote_average), " +
+                    "popularity = VALUES(popularity)";
+
+    private static final String UPDATE_SQL =
+            "UPDATE movie SET movie_title = ?, original_title = ?, release_date = ?, poster_path = ?, overview = ?, vote_average = ?, " +
+                    "popularity = ? WHERE tmdb_id = ?";
+
+    // TMDB 는 목록 API 의 500 페이지 이후를 제공하지 않음
+    private static final int TMDB_MAX_PAGES = 500;
+
+    private final IMovieApiService movieApiService;
+    private final MovieRepository movieRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 한 번의 수집에서 가져올 최대 페이지 수
+    @Value("${tmdb.ingest.max-pages:" + TMDB_MAX_PAGES + "}")
+    private int maxPages;
+
+    // JDBC 배치 크기
+    @Value("${tmdb.ingest.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * TMDB 목록의 모든 페이지를 수집합니다.
+     *
+     * @param list 수집할 TMDB 목록
+     * @return 저장/갱신 건수와 소요 시간
+     */
+    public IngestionResultDTO ingestAll(TmdbMovieList list) {
+        log.info(this.getClass().getName() + ".ingestAll Start!");
+        log.info("list: " + list.getListName());
+
+        long start = System.currentTimeMillis();
+
+        int page = 1;
+        int lastPage = 1;
+        int inserted = 0;
+        int updated = 0;
+
+        do {
+            PageResult result = ingestPage(list, page);
+
+            inserted += result.inserted();
+            updated += result.updated();
+            lastPage = Math.min(result.totalPages(), Math.min(maxPages, TMDB_MAX_PAGES));
+
+            page++;
+        } while (page <= lastPage);
+
+        IngestionResultDTO rDTO = IngestionResultDTO.builder()
+                .list(list.getListName())
+                .pages(page - 1)
+                .inserted(inserted)
+                .updated(updated)
+                .elapsedMillis(System.currentTimeMillis() - start)
+                .build();
+
+        log.info("Ingestion result: {}", rDTO);
+        log.info(this.getClass().getName() + ".ingestAll End!");
+
+        return rDTO;
+    }
+
+    /**
+     * TMDB 목록의 한 페이지를 가져와 MOVIE 테이블에 저장합니다.
+     *
+     * @param list 수집할 TMDB 목록
+     * @param page 페이지 번호
+     * @return 페이지 수집 결과 (저장/갱신 건수, 목록의 전체 페이지 수)
+     */
+    public PageResult ingestPage(TmdbMovieList list, int page) {
+        TmdbResponseDTO response = list.fetch(movieApiService, page);
+
+        if (response == null || response.results() == null || response.results().isEmpty()) {
+            return new PageResult(0, 0, 0);
+        }
+
+        PageResult result = upsertMovies(response.results());
+
+        log.info("{} page {} => inserted: {}, updated: {}", list.getListName(), page, result.inserted(), result.updated());
+
+        return new PageResult(result.inserted(), result.updated(), response.totalPages());
+    }
+
+    /**
+     * 영화 목록을 신규/기존으로 나누어 JDBC 배치로 저장합니다.
+     */
+    public PageResult upsertMovies(List<TmdbResponseDTO.MovieResultDto> movies) {
+        // 같은 페이지 안의 중복 영화 제거 (TMDB ID 기준)
+        Map<Long, TmdbResponseDTO.MovieResultDto> moviesById = new LinkedHashMap<>();
+        movies.stream()
+                .filter(movie -> movie.id() != null && movie.title() != null)
+                .forEach(movie -> moviesById.put(movie.id(), movie));
+
+        if (moviesById.isEmpty()) {
+            return new PageResult(0, 0, 0);
+        }
+
+        PageResult result = transactionTemplate.execute(status -> {
+            // 1. IN 쿼리 한 번으로 이미 저장된 영화 확인
+            Set<Long> existingIds = new HashSet<>(movieRepository.findExistingTmdbIds(moviesById.keySet()));
+
+            List<TmdbResponseDTO.MovieResultDto> newMovies = new ArrayList<>();
+            List<TmdbResponseDTO.MovieResultDto> existingMovies = new ArrayList<>();
+
+            moviesById.values().forEach(movie -> (existingIds.contains(movie.id()) ? existingMovies : newMovies).add(movie));
+
+            // 2. 신규 영화 배치 저장
+            jdbcTemplate.batchUpdate(INSERT_SQL, newMovies, batchSize, (ps, movie) -> {
+                ps.setLong(1, movie.id());
+                ps.setString(2, movie.title());
+                ps.setString(3, movie.originalTitle());
+                ps.setString(4, movie.releaseDate());
+                ps.setString(5, movie.posterPath());
+                ps.setString(6, movie.overview());
+                ps.setDouble(7, movie.voteAverage());
+                ps.setDouble(8, movie.popularity());
+            });
+
+            // 3. 기존 영화 배치 갱신
+            jdbcTemplate.batchUpdate(UPDATE_SQL, existingMovies, batchSize, (ps, movie) -> {
+                ps.setString(1, movie.title());
+                ps.setString(2, movie.originalTitle());
+                ps.setString(3, movie.releaseDate());
+                ps.setString(4, movie.posterPath());
+                ps.setString(5, movie.overview());
+                ps.setDouble(6, movie.voteAverage());
+                ps.setDouble(7, movie.popularity());
+                ps.setLong(8, movie.id());
+            });
+
+            return new PageResult(newMovies.size(), existingMovies.size(), 0);
+        });
+
+        // 커밋된 영화를 검색 색인에 반영
+        eventPublisher.publishEvent(new MoviesIngestedEvent(List.copyOf(moviesById.keySet())));
+
+        return result;
+    }
+}
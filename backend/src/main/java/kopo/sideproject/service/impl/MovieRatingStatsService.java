@@ -0,0 +1,126 @@
+package kopo.sideproject.service.impl;
+
+import kopo.sideproject.dto.RatingStatsDTO;
+import kopo.sideproject.repository.MovieRatingStatsRepository;
+import kopo.sideproject.repository.ReviewRepository;
+import kopo.sideproject.repository.entity.MovieEntity;
+import kopo.sideproject.repository.entity.MovieRatingStatsEntity;
+import kopo.sideproject.service.IMovieRatingStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovieRatingStatsService implements IMovieRatingStatsService {
+
+    private final MovieRatingStatsRepository movieRatingStatsRepository;
+    private final ReviewRepository reviewRepository;
+
+    @Override
+    @Transactional
+    public void reviewAdded(MovieEntity movie, double rating) {
+        lockStats(movie).addRating(rating);
+    }
+
+    @Override
+    @Transactional
+    public void reviewUpdated(MovieEntity movie, double oldRating, double newRating) {
+        MovieRatingStatsEntity stats = lockStats(movie);
+
+        stats.removeRating(oldRating);
+        stats.addRating(newRating);
+    }
+
+    @Override
+    @Transactional
+    public void reviewRemoved(MovieEntity movie, double rating) {
+        lockStats(movie).removeRating(rating);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RatingStatsDTO getRatingStats(Long tmdbId) {
+        log.info(this.getClass().getSimpleName() + ".getRatingStats Start!");
+
+        MovieRatingStatsEntity stats = movieRatingStatsRepository.findByTmdbId(tmdbId)
+                .orElse(null);
+
+        int reviewCount = (stats != null) ? stats.getReviewCount() : 0;
+        double average = (reviewCount > 0) ? stats.getRatingSum() / reviewCount : 0;
+        int[] histogram = (stats != null) ? stats.getHistogram() : new int[MovieRatingStatsEntity.BUCKET_COUNT];
+
+        // "0.5" ~ "5.0" 순서대로 리뷰 수를 담음
+        Map<String, Integer> histogramMap = new LinkedHashMap<>();
+        for (int i = 0; i < MovieRatingStatsEntity.BUCKET_COUNT; i++) {
+            histogramMap.put(String.valueOf((i + 1) / 2.0), histogram[i]);
+        }
+
+        log.info(this.getClass().getSimpleName() + ".getRatingStats End!");
+
+        return RatingStatsDTO.builder()
+                .tmdbId(tmdbId)
+                .reviewCount(reviewCount)
+                .averageRating(Math.round(average * 100) / 100.0)
+                .histogram(histogramMap)
+                .build();
+    }
+
+    /**
+     * 집계 테이블이 비어 있으면 기존 리뷰로부터 한 번 집계를 계산합니다. (기능 도입 전에 작성된 리뷰 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (movieRatingStatsRepository.count() > 0) {
+            return;
+        }
+
+        log.info(this.getClass().getSimpleName() + ".rebuildIfEmpty Start!");
+
+        Map<Long, MovieRatingStatsEntity> statsByMovie = new HashMap<>();
+
+        List<Object[]> rows = reviewRepository.countRatingsByMovie();
+
+        for (Object[] row : rows) {
+            Long movieId = (Long) row[0];
+            Long tmdbId = (Long) row[1];
+            double rating = ((Number) row[2]).doubleValue();
+            long count = (Long) row[3];
+
+            MovieRatingStatsEntity stats = statsByMovie.computeIfAbsent(movieId, id -> MovieRatingStatsEntity.builder()
+                    .movieId(id)
+                    .tmdbId(tmdbId)
+                    .histogram(new int[MovieRatingStatsEntity.BUCKET_COUNT])
+                    .build());
+
+            for (long i = 0; i < count; i++) {
+                stats.addRating(rating);
+            }
+        }
+
+        movieRatingStatsRepository.saveAll(statsByMovie.values());
+
+        log.info("Rebuilt rating stats for {} movies", statsByMovie.size());
+        log.info(this.getClass().getSimpleName() + ".rebuildIfEmpty End!");
+    }
+
+    /**
+     * 영화의 집계 행을 (없으면 만든 뒤) 잠금을 걸고 조회합니다.
+     */
+    private MovieRatingStatsEntity lockStats(MovieEntity movie) {
+        movieRatingStatsRepository.insertIfAbsent(movie.getMoviePk(), movie.getTmdbId());
+
+        return movieRatingStatsRepository.findByIdForUpdate(movie.getMoviePk())
+                .orElseThrow(() -> new IllegalStateException("Rating stats not found for movie: " + movie.getMoviePk()));
+    }
+}
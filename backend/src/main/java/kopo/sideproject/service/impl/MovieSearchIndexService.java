@@ -0,0 +1,361 @@
+package kopo.sideproject.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import kopo.sideproject.dto.TmdbResponseDTO;
+import kopo.sideproject.event.MoviesIngestedEvent;
+import kopo.sideproject.repository.MovieRepository;
+import kopo.sideproject.repository.entity.MovieEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.cjk.CJKBigramFilter;
+import org.apache.lucene.analysis.cjk.CJKWidthFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 로컬 MOVIE 테이블을 대상으로 하는 메모리 전문 검색 색인 (Lucene)
+ * 제목, 원제, 줄거리를 한글 2-gram 으로 색인하며, 영화가 저장될 때마다(MoviesIngestedEvent) 해당 영화만 다시 색인합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovieSearchIndexService {
+
+    private static final String FIELD_ID = "tmdbId";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_ORIGINAL_TITLE = "originalTitle";
+    private static final String FIELD_OVERVIEW = "overview";
+    private static final String FIELD_POSTER_PATH = "posterPath";
+    private static final String FIELD_RELEASE_DATE = "releaseDate";
+    private static final String FIELD_VOTE_AVERAGE = "voteAverage";
+    private static final String FIELD_POPULARITY = "popularity";
+
+    // 필드별 가중치 (제목 일치를 줄거리 일치보다 우선)
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            FIELD_TITLE, 3f,
+            FIELD_ORIGINAL_TITLE, 2f,
+            FIELD_OVERVIEW, 1f);
+
+    // 전체 재생성 시 한 번에 읽을 영화 수
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final MovieRepository movieRepository;
+
+    private ByteBuffersDirectory directory;
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+
+    // 검색어 분석기 (2-gram 만 생성, 한 글자 검색어는 그대로 1-gram)
+    private final QueryBuilder queryBuilder = new QueryBuilder(new KoreanNgramAnalyzer(false));
+
+    // 처음 전체 색인이 끝나기 전에는 로컬 검색을 사용하지 않음
+    private volatile boolean ready = false;
+
+    // 전체 색인 도중 저장된 영화 (색인이 끝난 뒤 반영), ready 변경과 함께 pendingLock 으로 보호
+    private final Object pendingLock = new Object();
+    private final Set<Long> pendingTmdbIds = new LinkedHashSet<>();
+
+    /**
+     * 검색 결과
+     *
+     * @param movies    요청한 범위의 영화 목록
+     * @param totalHits 검색된 전체 영화 수
+     * @param titleHits 제목 또는 원제가 검색어와 일치하는 영화 수 (줄거리에서만 일치한 영화 제외)
+     */
+    public record SearchResult(List<TmdbResponseDTO.MovieResultDto> movies, long totalHits, long titleHits) {
+
+        public static SearchResult empty() {
+            return new SearchResult(List.of(), 0, 0);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 서버 시작 시 MOVIE 테이블 전체를 색인합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        log.info(this.getClass().getSimpleName() + ".rebuild Start!");
+
+        long start = System.currentTimeMillis();
+        int indexed = 0;
+
+        try {
+            openIfClosed();
+
+            indexWriter.deleteAll();
+
+            Long afterPk = 0L;
+            List<MovieEntity> movies;
+
+            do {
+                movies = movieRepository.findNextPage(afterPk, PageRequest.ofSize(REBUILD_BATCH_SIZE));
+
+                for (MovieEntity movie : movies) {
+                    indexWriter.updateDocument(new Term(FIELD_ID, String.valueOf(movie.getTmdbId())), toDocument(movie));
+                }
+
+                indexed += movies.size();
+
+                if (!movies.isEmpty()) {
+                    afterPk = movies.get(movies.size() - 1).getMoviePk();
+                }
+            } while (movies.size() == REBUILD_BATCH_SIZE);
+
+            indexWriter.commit();
+            searcherManager.maybeRefreshBlocking();
+
+            List<Long> pending;
+
+            synchronized (pendingLock) {
+                ready = true;
+                pending = new ArrayList<>(pendingTmdbIds);
+                pendingTmdbIds.clear();
+            }
+
+            // 전체 색인 도중 저장된 영화 반영 (이미 색인된 영화는 같은 문서로 교체)
+            if (!pending.isEmpty()) {
+                indexMovies(pending);
+                log.info("Indexed {} movies saved during rebuild", pending.size());
+            }
+
+        } catch (IOException e) {
+            log.error("Failed to build movie search index", e);
+        }
+
+        log.info("Indexed {} movies in {} ms", indexed, System.currentTimeMillis() - start);
+        log.info(this.getClass().getSimpleName() + ".rebuild End!");
+    }
+
+    /**
+     * 저장된 영화를 색인에 반영합니다. (트랜잭션 안에서 발행된 경우 커밋 후 반영)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void moviesIngested(MoviesIngestedEvent event) {
+        if (event.tmdbIds().isEmpty()) {
+            return;
+        }
+
+        // 전체 색인이 끝나기 전이면 모아 두었다가 색인이 끝난 뒤 반영
+        synchronized (pendingLock) {
+            if (!ready) {
+                pendingTmdbIds.addAll(event.tmdbIds());
+                return;
+            }
+        }
+
+        try {
+            indexMovies(event.tmdbIds());
+        } catch (IOException e) {
+            // 색인 반영에 실패해도 다음 서버 시작 시 전체 재생성됨
+            log.warn("Failed to index {} movies: {}", event.tmdbIds().size(), e.getMessage());
+        }
+    }
+
+    private void indexMovies(List<Long> tmdbIds) throws IOException {
+        for (MovieEntity movie : movieRepository.findByTmdbIdIn(tmdbIds)) {
+            indexWriter.updateDocument(new Term(FIELD_ID, String.valueOf(movie.getTmdbId())), toDocument(movie));
+        }
+
+        searcherManager.maybeRefresh();
+    }
+
+    /**
+     * 제목, 원제, 줄거리에서 검색어를 모두 포함하는 영화를 찾습니다.
+     *
+     * @param query  검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit  반환할 최대 결과 수
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        Query luceneQuery = buildQuery(query, FIELD_BOOSTS.keySet());
+
+        if (!ready || luceneQuery == null) {
+            return SearchResult.empty();
+        }
+
+        IndexSearcher searcher = null;
+
+        try {
+            searcher = searcherManager.acquire();
+
+            TopDocs topDocs = searcher.search(luceneQuery, offset + limit);
+            StoredFields storedFields = searcher.storedFields();
+
+            List<TmdbResponseDTO.MovieResultDto> movies = new ArrayList<>();
+
+            for (int i = offset; i < topDocs.scoreDocs.length; i++) {
+                movies.add(toDTO(storedFields.document(topDocs.scoreDocs[i].doc)));
+            }
+
+            // 제목/원제 일치 수 (줄거리의 흔한 단어만 일치한 결과로 TMDB 검색을 건너뛰지 않도록 따로 셈)
+            Query titleQuery = buildQuery(query, List.of(FIELD_TITLE, FIELD_ORIGINAL_TITLE));
+            long titleHits = (titleQuery != null) ? searcher.count(titleQuery) : 0;
+
+            return new SearchResult(movies, topDocs.totalHits.value, titleHits);
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (searcherManager != null) {
+            searcherManager.close();
+        }
+        if (indexWriter != null) {
+            indexWriter.close();
+        }
+    }
+
+    private synchronized void openIfClosed() throws IOException {
+        if (indexWriter != null) {
+            return;
+        }
+
+        // 색인할 때는 1-gram 과 2-gram 을 모두 생성 (한 글자 검색어도 찾을 수 있도록)
+        Analyzer indexAnalyzer = new KoreanNgramAnalyzer(true);
+
+        directory = new ByteBuffersDirectory();
+        indexWriter = new IndexWriter(directory, new IndexWriterConfig(indexAnalyzer));
+        searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    /**
+     * 필드마다 검색어의 모든 n-gram 을 포함해야 일치하고, 필드 중 하나 이상 일치하는 영화를 찾습니다.
+     */
+    private Query buildQuery(String query, Collection<String> fields) {
+        if (query == null || query.isBlank()) {
+            return null;
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        int clauses = 0;
+
+        for (String field : fields) {
+            Query fieldQuery = queryBuilder.createBooleanQuery(field, query.trim(), BooleanClause.Occur.MUST);
+
+            if (fieldQuery != null) {
+                builder.add(new BoostQuery(fieldQuery, FIELD_BOOSTS.get(field)), BooleanClause.Occur.SHOULD);
+                clauses++;
+            }
+        }
+
+        return (clauses > 0) ? builder.build() : null;
+    }
+
+    private static Document toDocument(MovieEntity movie) {
+        Document doc = new Document();
+
+        doc.add(new StringField(FIELD_ID, String.valueOf(movie.getTmdbId()), Field.Store.YES));
+        doc.add(new TextField(FIELD_TITLE, movie.getTitle(), Field.Store.YES));
+
+        if (movie.getOriginalTitle() != null) {
+            doc.add(new TextField(FIELD_ORIGINAL_TITLE, movie.getOriginalTitle(), Field.Store.YES));
+        }
+        if (movie.getOverview() != null) {
+            doc.add(new TextField(FIELD_OVERVIEW, movie.getOverview(), Field.Store.YES));
+        }
+        if (movie.getPosterPath() != null) {
+            doc.add(new StoredField(FIELD_POSTER_PATH, movie.getPosterPath()));
+        }
+        if (movie.getReleaseDate() != null) {
+            doc.add(new StoredField(FIELD_RELEASE_DATE, movie.getReleaseDate()));
+        }
+
+        doc.add(new StoredField(FIELD_VOTE_AVERAGE, movie.getVoteAverage()));
+        doc.add(new StoredField(FIELD_POPULARITY, movie.getPopularity()));
+
+        return doc;
+    }
+
+    private static TmdbResponseDTO.MovieResultDto toDTO(Document doc) {
+        IndexableField voteAverage = doc.getField(FIELD_VOTE_AVERAGE);
+        IndexableField popularity = doc.getField(FIELD_POPULARITY);
+
+        return new TmdbResponseDTO.MovieResultDto(
+                Long.valueOf(doc.get(FIELD_ID)),
+                doc.get(FIELD_TITLE),
+                doc.get(FIELD_ORIGINAL_TITLE),
+                doc.get(FIELD_OVERVIEW),
+                doc.get(FIELD_POSTER_PATH),
+                doc.get(FIELD_RELEASE_DATE),
+                null,
+                (voteAverage != null) ? voteAverage.numericValue().doubleValue() : 0,
+                (popularity != null) ? popularity.numericValue().doubleValue() : 0);
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("Failed to release index searcher: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 단어 단위로 나눈 뒤, 한글/한자/가나 단어는 글자 2-gram 으로 나누는 분석기 (영문은 소문자 단어 단위)
+     * "기생충" => 기생, 생충 (outputUnigrams 이면 기, 생, 충 도 함께 생성)
+     */
+    private static final class KoreanNgramAnalyzer extends Analyzer {
+
+        private final boolean outputUnigrams;
+
+        KoreanNgramAnalyzer(boolean outputUnigrams) {
+            this.outputUnigrams = outputUnigrams;
+        }
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer source = new StandardTokenizer();
+
+            TokenStream result = new CJKWidthFilter(source);
+            result = new LowerCaseFilter(result);
+            result = new CJKBigramFilter(result, CJKBigramFilter.HAN | CJKBigramFilter.HIRAGANA
+                    | CJKBigramFilter.KATAKANA | CJKBigramFilter.HANGUL, outputUnigrams);
+
+            return new TokenStreamComponents(source, result);
+        }
+
+        @Override
+        protected TokenStream normalize(String fieldName, TokenStream in) {
+            return new LowerCaseFilter(new CJKWidthFilter(in));
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package kopo.sideproject.service.impl;
+
+import it.unimi.dsi.fastutil.longs.*;
+import kopo.sideproject.repository.MovieRatingStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * REVIEWS 테이블의 별점으로 영화 간 유사도(아이템 기반 협업 필터링)를 계산하여 MOVIE_SIMILARITY 에 저장하는 작업
+ * <p>
+ * 유사도는 사용자 평균을 뺀 별점의 코사인 유사도(adjusted cosine)에 함께 평가한 사용자 수 n 에 따른 축소 n / (n + shrinkage) 를 곱한 값이며,
+ * 영화마다 상위 K 개만 저장합니다.
+ * <p>
+ * 별점이 바뀐 영화(MOVIE_RATING_STATS.ratings_changed_at > similarity_built_at)는 주기적으로 해당 영화와,
+ * 그 영화를 이웃으로 가진 영화의 목록을 다시 계산합니다. 이때는 그 영화들을 평가한 사용자의 별점만 읽고,
+ * 이웃 후보 영화의 벡터 크기는 후보 영화의 별점과 그 평가자들의 평균 별점을 읽어 계산합니다.
+ * 별점 변경으로 새로 이웃이 된 영화 쌍은 하루 한 번의 전체 재계산에서 반영됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovieSimilarityService {
+
+    private static final String RATINGS_SQL = "SELECT user_id, movie_id, rating FROM reviews";
+
+    // 주어진 영화들을 평가한 사용자의 모든 별점
+    private static final String RATINGS_OF_RATERS_SQL =
+            "SELECT r.user_id, r.movie_id, r.rating FROM reviews r " +
+                    "WHERE r.user_id IN (SELECT DISTINCT rr.user_id FROM reviews rr WHERE rr.movie_id IN (:ids))";
+
+    // 주어진 영화들의 별점 (이웃 후보 영화의 벡터 크기 계산용)
+    private static final String RATINGS_OF_MOVIES_SQL =
+            "SELECT user_id, movie_id, rating FROM reviews WHERE movie_id IN (:ids)";
+
+    // 주어진 사용자들의 평균 별점
+    private static final String USER_MEANS_SQL =
+            "SELECT user_id, AVG(rating) AS mean_rating FROM reviews WHERE user_id IN (:ids) GROUP BY user_id";
+
+    // 주어진 영화를 이웃으로 가진 영화
+    private static final String DEPENDENT_MOVIES_SQL =
+            "SELECT DISTINCT movie_id FROM movie_similarity WHERE neighbor_movie_id IN (:ids)";
+
+    // IN 절 하나에 넣을 최대 ID 수
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private static final String DELETE_SQL = "DELETE FROM movie_similarity WHERE movie_id = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO movie_similarity (movie_id, neighbor_movie_id, score, co_rating_count, built_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MovieRatingStatsRepository movieRatingStatsRepository;
+
+    // 전체 / 증분 계산이 겹쳐서 실행되지 않도록 하는 잠금
+    private final ReentrantLock buildLock = new ReentrantLock();
+
+    // 영화마다 저장할 유사 영화 수
+    @Value("${similarity.top-k:30}")
+    private int topK;
+
+    // 함께 평가한 사용자가 적은 영화 쌍의 유사도를 줄이는 값
+    @Value("${similarity.shrinkage:10}")
+    private double shrinkage;
+
+    // 유사도를 계산할 최소 공동 평가 수
+    @Value("${similarity.min-co-ratings:2}")
+    private int minCoRatings;
+
+    // JDBC 배치 크기
+    @Value("${similarity.insert-batch-size:1000}")
+    private int insertBatchSize;
+
+    // 한 번의 증분 계산에서 처리할 최대 영화 수
+    @Value("${similarity.incremental-batch-size:500}")
+    private int incrementalBatchSize;
+
+    /**
+     * 유사도 계산 대상 이웃
+     */
+    record Neighbor(long movieId, double score, int coRatings) {
+    }
+
+    /**
+     * MOVIE_SIMILARITY 에 저장할 행
+     */
+    private record SimilarityRow(long movieId, Neighbor neighbor) {
+    }
+
+    /**
+     * 별점 행렬 (영화 => 사용자 => 보정 별점, 사용자 => 영화 => 보정 별점, 영화별 벡터 크기)
+     */
+    record RatingMatrix(Long2ObjectMap<Long2DoubleMap> byMovie,
+                                Long2ObjectMap<Long2DoubleMap> byUser,
+                                Long2DoubleMap norms) {
+    }
+
+    @Scheduled(cron = "${similarity.full-rebuild-cron:0 0 5 * * *}")
+    public void scheduledFullRebuild() {
+        rebuildAll();
+    }
+
+    @Scheduled(initialDelayString = "${similarity.incremental-initial-delay:PT2M}",
+            fixedDelayString = "${similarity.incremental-interval:PT5M}")
+    public void scheduledIncrementalRebuild() {
+        rebuildStale();
+    }
+
+    /**
+     * 모든 영화의 유사 영화 목록을 다시 계산합니다.
+     *
+     * @return 계산한 영화 수 (이미 계산 중이면 -1)
+     */
+    public int rebuildAll() {
+        if (!buildLock.tryLock()) {
+            log.info("Similarity build is already running.");
+            return -1;
+        }
+
+        try {
+            log.info(this.getClass().getSimpleName() + ".rebuildAll Start!");
+
+            LocalDateTime builtAt = LocalDateTime.now();
+            RatingMatrix matrix = loadRatings();
+
+            Long2ObjectMap<List<Neighbor>> neighbors = new Long2ObjectOpenHashMap<>();
+            for (long movieId : matrix.byMovie().keySet()) {
+                neighbors.put(movieId, computeNeighbors(matrix, movieId, topK, shrinkage, minCoRatings));
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                // 리뷰가 모두 삭제된 영화의 목록까지 함께 정리
+                jdbcTemplate.update("DELETE FROM movie_similarity");
+                insertNeighbors(neighbors, builtAt);
+                jdbcTemplate.update("UPDATE movie_rating_stats SET similarity_built_at = ? WHERE similarity_built_at IS NULL " +
+                        "OR similarity_built_at < ?", Timestamp.valueOf(builtAt), Timestamp.valueOf(builtAt));
+            });
+
+            log.info("Rebuilt similarity index for {} movies in {} ms",
+                    neighbors.size(), Duration.between(builtAt, LocalDateTime.now()).toMillis());
+            log.info(this.getClass().getSimpleName() + ".rebuildAll End!");
+
+            return neighbors.size();
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    /**
+     * 마지막 계산 이후 별점이 바뀐 영화의 유사 영화 목록만 다시 계산합니다.
+     *
+     * @return 계산한 영화 수 (이미 계산 중이면 -1)
+     */
+    public int rebuildStale() {
+        if (!buildLock.tryLock()) {
+            return -1;
+        }
+
+        try {
+            List<Long> staleIds = movieRatingStatsRepository.findSimilarityStaleMovieIds(PageRequest.ofSize(incrementalBatchSize));
+
+            if (staleIds.isEmpty()) {
+                return 0;
+            }
+
+            log.info(this.getClass().getSimpleName() + ".rebuildStale Start!");
+
+            // 계산 도중 별점이 바뀐 영화는 다음 실행에서 다시 계산되도록 시작 시각을 기록
+            LocalDateTime builtAt = LocalDateTime.now();
+
+            // 별점이 바뀐 영화 + 그 영화를 이웃으로 가진 영화 (유사도 점수가 함께 바뀜)
+            LongLinkedOpenHashSet rebuildIds = new LongLinkedOpenHashSet();
+            staleIds.forEach(rebuildIds::add);
+            queryIdsInChunks(DEPENDENT_MOVIES_SQL, staleIds, rs -> {
+                rebuildIds.add(rs.getLong("movie_id"));
+            });
+
+            RatingMatrix matrix = loadRatingsAround(rebuildIds);
+
+            Long2ObjectMap<List<Neighbor>> neighbors = new Long2ObjectOpenHashMap<>();
+            for (long movieId : rebuildIds) {
+                neighbors.put(movieId, computeNeighbors(matrix, movieId, topK, shrinkage, minCoRatings));
+            }
+
+            List<Long> rebuildIdList = new ArrayList<>(rebuildIds);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(DELETE_SQL, rebuildIdList, insertBatchSize, (ps, movieId) -> ps.setLong(1, movieId));
+                insertNeighbors(neighbors, builtAt);
+                movieRatingStatsRepository.markSimilarityBuilt(staleIds, builtAt);
+            });
+
+            log.info("Rebuilt similarity lists for {} stale movies ({} including dependents, {} raters)",
+                    staleIds.size(), rebuildIds.size(), matrix.byUser().size());
+            log.info(this.getClass().getSimpleName() + ".rebuildStale End!");
+
+            return staleIds.size();
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    /**
+     * REVIEWS 의 모든 별점을 읽어 사용자 평균을 뺀 희소 행렬을 만듭니다.
+     */
+    private RatingMatrix loadRatings() {
+        Long2ObjectMap<Long2DoubleMap> byUser = new Long2ObjectOpenHashMap<>();
+
+        jdbcTemplate.query(RATINGS_SQL, rs -> {
+            putRating(byUser, rs.getLong("user_id"), rs.getLong("movie_id"), rs.getDouble("rating"));
+        });
+
+        return toMatrix(byUser);
+    }
+
+    /**
+     * 주어진 영화들을 평가한 사용자의 별점만 읽어 행렬을 만듭니다.
+     * 읽은 사용자는 모든 별점을 가지고 있으므로 사용자 평균과 주어진 영화의 벡터는 정확하지만,
+     * 이웃 후보 영화는 일부 사용자만 포함되므로 벡터 크기를 후보 영화의 모든 별점으로 다시 계산합니다.
+     */
+    private RatingMatrix loadRatingsAround(Collection<Long> movieIds) {
+        Long2ObjectMap<Long2DoubleMap> byUser = new Long2ObjectOpenHashMap<>();
+
+        queryIdsInChunks(RATINGS_OF_RATERS_SQL, movieIds, rs -> {
+            putRating(byUser, rs.getLong("user_id"), rs.getLong("movie_id"), rs.getDouble("rating"));
+        });
+
+        // 읽은 사용자의 평균 별점 (toMatrix 가 별점을 보정 별점으로 바꾸기 전에 계산)
+        Long2DoubleOpenHashMap means = new Long2DoubleOpenHashMap();
+
+        for (Long2ObjectMap.Entry<Long2DoubleMap> userEntry : byUser.long2ObjectEntrySet()) {
+            double sum = 0;
+            for (double rating : userEntry.getValue().values()) {
+                sum += rating;
+            }
+            means.put(userEntry.getLongKey(), sum / userEntry.getValue().size());
+        }
+
+        RatingMatrix matrix = toMatrix(byUser);
+
+        LongOpenHashSet candidateIds = new LongOpenHashSet(matrix.byMovie().keySet());
+        candidateIds.removeAll(movieIds);
+
+        // 이웃 후보 영화의 모든 별점
+        Long2ObjectMap<Long2DoubleMap> candidateRatings = new Long2ObjectOpenHashMap<>();
+
+        queryIdsInChunks(RATINGS_OF_MOVIES_SQL, candidateIds, rs -> {
+            putRating(candidateRatings, rs.getLong("movie_id"), rs.getLong("user_id"), rs.getDouble("rating"));
+        });
+
+        // 아직 평균을 모르는 평가자만 한 번씩 조회
+        LongOpenHashSet unknownUserIds = new LongOpenHashSet();
+
+        for (Long2DoubleMap ratings : candidateRatings.values()) {
+            for (long userId : ratings.keySet()) {
+                if (!means.containsKey(userId)) {
+                    unknownUserIds.add(userId);
+                }
+            }
+        }
+
+        queryIdsInChunks(USER_MEANS_SQL, unknownUserIds, rs -> {
+            means.put(rs.getLong("user_id"), rs.getDouble("mean_rating"));
+        });
+
+        // 영화별 (별점 - 사용자 평균)^2 합 (보정 코사인 유사도의 벡터 크기)
+        for (Long2ObjectMap.Entry<Long2DoubleMap> movieEntry : candidateRatings.long2ObjectEntrySet()) {
+            double squaredNorm = 0;
+
+            for (Long2DoubleMap.Entry ratingEntry : movieEntry.getValue().long2DoubleEntrySet()) {
+                double centered = ratingEntry.getDoubleValue() - means.get(ratingEntry.getLongKey());
+                squaredNorm += centered * centered;
+            }
+
+            matrix.norms().put(movieEntry.getLongKey(), Math.sqrt(squaredNorm));
+        }
+
+        return matrix;
+    }
+
+    private void queryIdsInChunks(String sql, Collection<Long> ids, RowCallbackHandler handler) {
+        List<Long> idList = new ArrayList<>(ids);
+
+        for (int from = 0; from < idList.size(); from += IN_CHUNK_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + IN_CHUNK_SIZE, idList.size()));
+            namedParameterJdbcTemplate.query(sql, Map.of("ids", chunk), handler);
+        }
+    }
+
+    private static void putRating(Long2ObjectMap<Long2DoubleMap> byUser, long userId, long movieId, double rating) {
+        Long2DoubleMap ratings = byUser.get(userId);
+
+        if (ratings == null) {
+            ratings = new Long2DoubleOpenHashMap();
+            byUser.put(userId, ratings);
+        }
+
+        ratings.put(movieId, rating);
+    }
+
+    /**
+     * 사용자별 별점에서 사용자 평균을 뺀 희소 행렬을 만듭니다. (byUser 의 별점을 보정 별점으로 바꿈)
+     */
+    static RatingMatrix toMatrix(Long2ObjectMap<Long2DoubleMap> byUser) {
+        Long2ObjectMap<Long2DoubleMap> byMovie = new Long2ObjectOpenHashMap<>();
+        Long2DoubleOpenHashMap norms = new Long2DoubleOpenHashMap();
+
+        for (Long2ObjectMap.Entry<Long2DoubleMap> userEntry : byUser.long2ObjectEntrySet()) {
+            Long2DoubleMap ratings = userEntry.getValue();
+
+            double mean = 0;
+            for (double rating : ratings.values()) {
+                mean += rating;
+            }
+            mean /= ratings.size();
+
+            for (Long2DoubleMap.Entry ratingEntry : ratings.long2DoubleEntrySet()) {
+                double centered = ratingEntry.getDoubleValue() - mean;
+                ratingEntry.setValue(centered);
+
+                Long2DoubleMap raters = byMovie.get(ratingEntry.getLongKey());
+
+                if (raters == null) {
+                    raters = new Long2DoubleOpenHashMap();
+                    byMovie.put(ratingEntry.getLongKey(), raters);
+                }
+
+                raters.put(userEntry.getLongKey(), centered);
+                norms.addTo(ratingEntry.getLongKey(), centered * centered);
+            }
+        }
+
+        for (Long2DoubleMap.Entry normEntry : norms.long2DoubleEntrySet()) {
+            normEntry.setValue(Math.sqrt(normEntry.getDoubleValue()));
+        }
+
+        return new RatingMatrix(byMovie, byUser, norms);
+    }
+
+    /**
+     * 한 영화의 유사도 상위 K 개 이웃을 계산합니다.
+     */
+    static List<Neighbor> computeNeighbors(RatingMatrix matrix, long movieId, int topK, double shrinkage, int minCoRatings) {
+        Long2DoubleMap raters = matrix.byMovie().get(movieId);
+        double norm = matrix.norms().get(movieId);
+
+        if (raters == null || norm == 0) {
+            return List.of();
+        }
+
+        // 이 영화를 평가한 사용자들이 평가한 다른 영화와의 내적 / 공동 평가 수
+        Long2DoubleOpenHashMap dots = new Long2DoubleOpenHashMap();
+        Long2IntOpenHashMap coRatings = new Long2IntOpenHashMap();
+
+        for (Long2DoubleMap.Entry raterEntry : raters.long2DoubleEntrySet()) {
+            double rating = raterEntry.getDoubleValue();
+
+            for (Long2DoubleMap.Entry otherEntry : matrix.byUser().get(raterEntry.getLongKey()).long2DoubleEntrySet()) {
+                long otherMovieId = otherEntry.getLongKey();
+
+                if (otherMovieId == movieId) {
+                    continue;
+                }
+
+                dots.addTo(otherMovieId, rating * otherEntry.getDoubleValue());
+                coRatings.addTo(otherMovieId, 1);
+            }
+        }
+
+        // 유사도 상위 K 개만 유지 (최소 힙)
+        PriorityQueue<Neighbor> top = new PriorityQueue<>(Comparator.comparingDouble(Neighbor::score));
+
+        for (Long2IntMap.Entry coEntry : coRatings.long2IntEntrySet()) {
+            long otherMovieId = coEntry.getLongKey();
+            int n = coEntry.getIntValue();
+            double otherNorm = matrix.norms().get(otherMovieId);
+
+            if (n < minCoRatings || otherNorm == 0) {
+                continue;
+            }
+
+            double score = dots.get(otherMovieId) / (norm * otherNorm) * (n / (n + shrinkage));
+
+            if (score <= 0) {
+                continue;
+            }
+
+            top.add(new Neighbor(otherMovieId, score, n));
+
+            if (top.size() > topK) {
+                top.poll();
+            }
+        }
+
+        List<Neighbor> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingDouble(Neighbor::score).reversed());
+
+        return result;
+    }
+
+    private void insertNeighbors(Long2ObjectMap<List<Neighbor>> neighbors, LocalDateTime builtAt) {
+        List<SimilarityRow> rows = new ArrayList<>();
+
+        for (Long2ObjectMap.Entry<List<Neighbor>> entry : neighbors.long2ObjectEntrySet()) {
+            for (Neighbor neighbor : entry.getValue()) {
+                rows.add(new SimilarityRow(entry.getLongKey(), neighbor));
+            }
+        }
+
+        Timestamp builtAtTimestamp = Timestamp.valueOf(builtAt);
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, insertBatchSize, (ps, row) -> {
+            ps.setLong(1, row.movieId());
+            ps.setLong(2, row.neighbor().movieId());
+            ps.setDouble(3, row.neighbor().score());
+            ps.setInt(4, row.neighbor().coRatings());
+            ps.setTimestamp(5, builtAtTimestamp);
+        });
+    }
+}
@@ -0,0 +1,291 @@
+package kopo.sideproject.service.impl;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import kopo.sideproject.dto.MovieSuggestionDTO;
+import kopo.sideproject.event.MoviesIngestedEvent;
+import kopo.sideproject.event.ReviewActivityEvent;
+import kopo.sideproject.repository.MovieRepository;
+import kopo.sideproject.util.HangulUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.search.suggest.InputIterator;
+import org.apache.lucene.search.suggest.Lookup;
+import org.apache.lucene.search.suggest.fst.WFSTCompletionLookup;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 영화 제목 자동완성 서비스
+ * 제목을 자모 단위("ㅇㅓㅂㅔㄴ...")와 초성("ㅇㅂㅈㅅ")으로 분해한 키를 가중치 FST(Lucene WFSTCompletionLookup)로 만들어 두고,
+ * 입력한 앞부분으로 시작하는 제목을 가중치(TMDB 인기도 + 리뷰 수) 순으로 찾습니다.
+ * <p>
+ * 영화가 저장되거나 리뷰가 작성/삭제되면 변경 표시만 해 두고, 주기적으로 새 FST 를 만든 뒤 한 번에 교체합니다. (조회는 잠금 없이 기존 FST 사용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovieSuggestService {
+
+    // 키 뒤에 붙이는 구분자 + TMDB ID (같은 제목의 영화도 서로 다른 키가 되도록)
+    private static final char ID_SEPARATOR = '\u001F';
+
+    // 제목 중간 단어부터 시작하는 키를 만들 최대 단어 수 ("스파이더맨 노 웨이 홈" => "노웨이홈", "웨이홈", ...)
+    private static final int MAX_WORD_STARTS = 4;
+
+    private final MovieRepository movieRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // 마지막 생성 이후 영화가 저장되었거나 리뷰 수가 바뀌었는지 여부
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+
+    /**
+     * 자동완성에 사용하는 FST 와 영화 정보 (한 번 만들면 바뀌지 않음)
+     */
+    private record Snapshot(Lookup jamoLookup, Lookup choseongLookup, Map<Long, MovieSuggestionDTO> movies) {
+        static final Snapshot EMPTY = new Snapshot(null, null, Map.of());
+    }
+
+    /**
+     * 입력한 앞부분으로 시작하는 영화 제목을 가중치 순으로 반환합니다.
+     * 모두 자음이면 초성으로 찾습니다. ("ㅇㅂ" => 어벤져스)
+     *
+     * @param prefix 입력한 검색어
+     * @param limit  최대 결과 수
+     */
+    public List<MovieSuggestionDTO> suggest(String prefix, int limit) {
+        Snapshot current = snapshot;
+
+        if (prefix == null || prefix.isBlank() || current.jamoLookup() == null) {
+            return List.of();
+        }
+
+        boolean choseong = HangulUtil.isChoseongQuery(prefix);
+        String key = choseong ? HangulUtil.toChoseong(prefix) : HangulUtil.toJamo(prefix);
+
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        Lookup lookup = choseong ? current.choseongLookup() : current.jamoLookup();
+
+        // 한 영화가 여러 키(단어 시작 위치별)로 나올 수 있으므로 넉넉히 조회 후 중복 제거
+        List<Lookup.LookupResult> results;
+        try {
+            results = lookup.lookup(key, false, limit * MAX_WORD_STARTS);
+        } catch (IOException e) {
+            log.warn("Suggest lookup failed for '{}': {}", prefix, e.getMessage());
+            return List.of();
+        }
+
+        Set<Long> seen = new HashSet<>();
+        List<MovieSuggestionDTO> rList = new ArrayList<>(limit);
+
+        for (Lookup.LookupResult result : results) {
+            Long tmdbId = parseTmdbId(result.key);
+
+            if (seen.add(tmdbId) && current.movies().containsKey(tmdbId)) {
+                rList.add(current.movies().get(tmdbId));
+
+                if (rList.size() >= limit) {
+                    break;
+                }
+            }
+        }
+
+        return rList;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 영화가 저장되면 다음 실행에서 FST 를 다시 만듭니다. (트랜잭션 안에서 발행된 경우 커밋 후 표시해야 생성 시 새 영화가 조회됨)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void moviesIngested(MoviesIngestedEvent event) {
+        dirty.set(true);
+    }
+
+    /**
+     * 리뷰가 작성/삭제되면 가중치의 리뷰 수가 바뀌므로 다음 실행에서 FST 를 다시 만듭니다. (별점 수정은 리뷰 수와 무관)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void reviewActivity(ReviewActivityEvent event) {
+        if (event.oldRating() == null || event.newRating() == null) {
+            dirty.set(true);
+        }
+    }
+
+    /**
+     * 마지막 생성 이후 영화가 저장되었거나 리뷰 수가 바뀌었으면 FST 를 다시 만듭니다. (카탈로그 동기화 후 반영)
+     */
+    @Scheduled(initialDelayString = "${search.suggest.rebuild-interval:PT1M}", fixedDelayString = "${search.suggest.rebuild-interval:PT1M}")
+    public void rebuildIfDirty() {
+        if (dirty.get()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * MOVIE 테이블 전체로 새 FST 를 만든 뒤 기존 FST 와 교체합니다.
+     */
+    public synchronized void rebuild() {
+        log.info(this.getClass().getSimpleName() + ".rebuild Start!");
+
+        long start = System.currentTimeMillis();
+
+        // 생성 중에 저장된 영화는 다음 실행에서 반영되도록 먼저 표시를 지움
+        dirty.set(false);
+
+        try {
+            List<Object[]> rows = movieRepository.findSuggestSources();
+
+            Map<Long, MovieSuggestionDTO> movies = new Long2ObjectOpenHashMap<>(rows.size());
+            List<SuggestEntry> jamoEntries = new ArrayList<>(rows.size() * 2);
+            List<SuggestEntry> choseongEntries = new ArrayList<>(rows.size() * 2);
+
+            for (Object[] row : rows) {
+                Long tmdbId = (Long) row[0];
+                String title = (String) row[1];
+                double popularity = ((Number) row[4]).doubleValue();
+                long reviewCount = ((Number) row[5]).longValue();
+
+                if (title == null || title.isBlank()) {
+                    continue;
+                }
+
+                movies.put(tmdbId, MovieSuggestionDTO.builder()
+                        .tmdbId(tmdbId)
+                        .title(title)
+                        .posterPath((String) row[2])
+                        .releaseDate((String) row[3])
+                        .build());
+
+                long weight = weight(popularity, reviewCount);
+
+                for (String words : wordStarts(title)) {
+                    addEntry(jamoEntries, HangulUtil.toJamo(words), tmdbId, weight);
+                    addEntry(choseongEntries, HangulUtil.toChoseong(words), tmdbId, weight);
+                }
+            }
+
+            snapshot = new Snapshot(build(jamoEntries), build(choseongEntries), movies);
+
+            log.info("Built suggest FST for {} movies ({} keys) in {} ms",
+                    movies.size(), jamoEntries.size(), System.currentTimeMillis() - start);
+
+        } catch (Exception e) {
+            // 실패하면 기존 FST 를 그대로 사용하고 다음 실행에서 다시 시도
+            dirty.set(true);
+            log.error("Failed to build suggest FST", e);
+        }
+
+        log.info(this.getClass().getSimpleName() + ".rebuild End!");
+    }
+
+    /**
+     * 인기도와 리뷰 수를 로그 스케일로 합친 가중치 (FST 가중치는 정수)
+     */
+    private static long weight(double popularity, long reviewCount) {
+        return Math.round((Math.log1p(Math.max(popularity, 0)) + 2 * Math.log1p(reviewCount)) * 1000);
+    }
+
+    /**
+     * 제목 전체와 두 번째 단어부터 시작하는 부분 제목들
+     */
+    private static List<String> wordStarts(String title) {
+        List<String> starts = new ArrayList<>();
+        starts.add(title);
+
+        for (int i = 1; i < title.length() && starts.size() < MAX_WORD_STARTS; i++) {
+            boolean wordStart = Character.isLetterOrDigit(title.charAt(i))
+                    && !Character.isLetterOrDigit(title.charAt(i - 1));
+
+            if (wordStart) {
+                starts.add(title.substring(i));
+            }
+        }
+
+        return starts;
+    }
+
+    private static void addEntry(List<SuggestEntry> entries, String key, Long tmdbId, long weight) {
+        if (!key.isEmpty()) {
+            entries.add(new SuggestEntry(new BytesRef(key + ID_SEPARATOR + tmdbId), weight));
+        }
+    }
+
+    private static Lookup build(List<SuggestEntry> entries) throws IOException {
+        WFSTCompletionLookup lookup = new WFSTCompletionLookup(new ByteBuffersDirectory(), "suggest");
+        lookup.build(new SuggestEntryIterator(entries.iterator()));
+        return lookup;
+    }
+
+    private static Long parseTmdbId(CharSequence key) {
+        String str = key.toString();
+        return Long.valueOf(str.substring(str.lastIndexOf(ID_SEPARATOR) + 1));
+    }
+
+    private record SuggestEntry(BytesRef key, long weight) {
+    }
+
+    /**
+     * FST 생성 입력 (키, 가중치)
+     */
+    private static final class SuggestEntryIterator implements InputIterator {
+
+        private final Iterator<SuggestEntry> iterator;
+        private SuggestEntry current;
+
+        SuggestEntryIterator(Iterator<SuggestEntry> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public BytesRef next() {
+            if (!iterator.hasNext()) {
+                return null;
+            }
+            current = iterator.next();
+            return current.key();
+        }
+
+        @Override
+        public long weight() {
+            return current.weight();
+        }
+
+        @Override
+        public BytesRef payload() {
+            return null;
+        }
+
+        @Override
+        public boolean hasPayloads() {
+            return false;
+        }
+
+        @Override
+        public Set<BytesRef> contexts() {
+            return null;
+        }
+
+        @Override
+        public boolean hasContexts() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package kopo.sideproject.service.impl;
+
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import kopo.sideproject.dto.SimilarMovieDTO;
+import kopo.sideproject.repository.MovieRepository;
+import kopo.sideproject.repository.MovieSimilarityRepository;
+import kopo.sideproject.repository.ReviewRepository;
+import kopo.sideproject.repository.entity.MovieEntity;
+import kopo.sideproject.repository.entity.MovieSimilarityEntity;
+import kopo.sideproject.service.IRecommendationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationService implements IRecommendationService {
+
+    private final MovieSimilarityRepository movieSimilarityRepository;
+    private final ReviewRepository reviewRepository;
+    private final MovieRepository movieRepository;
+    private final FollowGraphCacheService followGraphCacheService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SimilarMovieDTO> getSimilarMovies(Long tmdbId, int limit) {
+        log.info(this.getClass().getSimpleName() + ".getSimilarMovies Start!");
+
+        List<SimilarMovieDTO> rList = movieSimilarityRepository.findSimilarMovies(tmdbId, PageRequest.ofSize(limit));
+
+        log.info(this.getClass().getSimpleName() + ".getSimilarMovies End!");
+
+        return rList;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SimilarMovieDTO> getRecommendations(String userEmail, int limit) {
+        log.info(this.getClass().getSimpleName() + ".getRecommendations Start!");
+
+        Long userId = followGraphCacheService.resolveUserId(userEmail);
+
+        // 1. 사용자가 평가한 영화와 별점 (사용자 평균과의 차이로 변환)
+        Long2DoubleOpenHashMap myRatings = new Long2DoubleOpenHashMap();
+        for (Object[] row : reviewRepository.findRatingsByUserId(userId)) {
+            myRatings.put(((Long) row[0]).longValue(), ((Number) row[1]).doubleValue());
+        }
+
+        // 2. 평가한 영화들의 유사 영화 점수를 합산
+        Long2DoubleMap scores = myRatings.isEmpty()
+                ? new Long2DoubleOpenHashMap()
+                : scoreNeighbors(myRatings, movieSimilarityRepository.findByMovieIds(myRatings.keySet()));
+
+        // 유사 영화가 없으면 (평가가 없거나 유사도가 아직 계산되지 않은 경우) 인기 영화로 대신함
+        if (scores.isEmpty()) {
+            List<SimilarMovieDTO> rList = movieRepository.findPopularMovies(PageRequest.ofSize(limit + myRatings.size())).stream()
+                    .filter(movie -> !myRatings.containsKey(movie.getMoviePk().longValue()))
+                    .limit(limit)
+                    .map(movie -> new SimilarMovieDTO(movie.getTmdbId(), movie.getTitle(), movie.getPosterPath(), 0.0))
+                    .toList();
+
+            log.info(this.getClass().getSimpleName() + ".getRecommendations End!");
+
+            return rList;
+        }
+
+        // 3. 점수가 높은 순으로 limit 개
+        List<Long2DoubleMap.Entry> topEntries = scores.long2DoubleEntrySet().stream()
+                .sorted(Comparator.comparingDouble(Long2DoubleMap.Entry::getDoubleValue).reversed())
+                .limit(limit)
+                .toList();
+
+        Map<Long, MovieEntity> movies = movieRepository.findAllById(
+                        topEntries.stream().map(Long2DoubleMap.Entry::getLongKey).toList()).stream()
+                .collect(Collectors.toMap(MovieEntity::getMoviePk, Function.identity()));
+
+        List<SimilarMovieDTO> rList = topEntries.stream()
+                .filter(entry -> movies.containsKey(entry.getLongKey()))
+                .map(entry -> {
+                    MovieEntity movie = movies.get(entry.getLongKey());
+                    return new SimilarMovieDTO(movie.getTmdbId(), movie.getTitle(), movie.getPosterPath(),
+                            Math.round(entry.getDoubleValue() * 1000) / 1000.0);
+                })
+                .toList();
+
+        log.info(this.getClass().getSimpleName() + ".getRecommendations End!");
+
+        return rList;
+    }
+
+    /**
+     * 평가한 영화들의 유사 영화 점수를 합산합니다: score(j) = Σ sim(i, j) * w_i (이미 평가한 영화 제외)
+     * w_i 는 사용자 평균과의 차이(r_i - 평균)이며, 모든 별점이 같아 차이가 모두 0 이면 (평가가 하나뿐인 경우 포함)
+     * 별점 자체를 5점 만점 기준으로 나눈 값(r_i / 5)을 사용합니다.
+     *
+     * @return 영화 PK => 추천 점수 (0 보다 큰 점수만)
+     */
+    static Long2DoubleMap scoreNeighbors(Long2DoubleMap myRatings, List<MovieSimilarityEntity> similarities) {
+        double mean = 0;
+        for (double rating : myRatings.values()) {
+            mean += rating;
+        }
+        mean /= myRatings.size();
+
+        boolean allEqual = true;
+        for (double rating : myRatings.values()) {
+            if (rating != mean) {
+                allEqual = false;
+                break;
+            }
+        }
+
+        Long2DoubleOpenHashMap scores = new Long2DoubleOpenHashMap();
+
+        for (MovieSimilarityEntity similarity : similarities) {
+            long neighborId = similarity.getNeighborMovieId();
+
+            if (myRatings.containsKey(neighborId)) {
+                continue;
+            }
+
+            double rating = myRatings.get(similarity.getMovieId().longValue());
+            double weight = allEqual ? rating / 5 : rating - mean;
+
+            scores.addTo(neighborId, similarity.getScore() * weight);
+        }
+
+        Long2DoubleOpenHashMap positiveScores = new Long2DoubleOpenHashMap();
+        for (Long2DoubleMap.Entry entry : scores.long2DoubleEntrySet()) {
+            if (entry.getDoubleValue() > 0) {
+                positiveScores.put(entry.getLongKey(), entry.getDoubleValue());
+            }
+        }
+
+        return positiveScores;
+    }
+}
@@ -1,22 +1,37 @@
 package kopo.sideproject.service.impl;
 
+import kopo.sideproject.dto.DailyRatingCountDTO;
+import kopo.sideproject.dto.RatingCalendarEntryDTO;
+import kopo.sideproject.dto.RatingMonthSummaryDTO;
 import kopo.sideproject.dto.ReviewDTO;
+import kopo.sideproject.dto.ReviewPageDTO;
+import kopo.sideproject.dto.ReviewPageRowDTO;
 import kopo.sideproject.dto.ReviewRequestDTO;
 import kopo.sideproject.dto.TmdbMovieDetailDTO;
+import kopo.sideproject.event.MoviesIngestedEvent;
+import kopo.sideproject.event.ReviewActivityEvent;
+import kopo.sideproject.event.ReviewPostedEvent;
 import kopo.sideproject.repository.MovieRepository;
 import kopo.sideproject.repository.ReviewRepository;
 import kopo.sideproject.repository.UserInfoRepository;
 import kopo.sideproject.repository.entity.MovieEntity;
 import kopo.sideproject.repository.entity.ReviewEntity;
 import kopo.sideproject.repository.entity.UserInfoEntity;
+import kopo.sideproject.service.IMovieRatingStatsService;
 import kopo.sideproject.service.IReviewService;
+import kopo.sideproject.service.IUserRatingVectorService;
 import kopo.sideproject.util.DateUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -30,28 +45,63 @@ public class ReviewService implements IReviewService {
     private final MovieRepository movieRepository;
     private final UserInfoRepository  userInfoRepository;
     private final MovieApiService movieApiService;
+    private final IMovieRatingStatsService movieRatingStatsService;
+    private final IUserRatingVectorService userRatingVectorService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Override
-    public List<ReviewDTO> getReviewsForMovies(Long movieId) {
+    @Transactional(readOnly = true)
+    public ReviewPageDTO getReviewsForMovies(Long movieId, String sort, String cursor, int size) {
         log.info(this.getClass().getSimpleName(), "getReviewsForMovies Start!");
+        log.info("movieId: " + movieId + ", sort: " + sort + ", cursor: " + cursor + ", size: " + size);
+
+        ReviewSort reviewSort = ReviewSort.fromName(sort);
+        ReviewCursor reviewCursor = (cursor == null || cursor.isBlank())
+                ? reviewSort.firstCursor()
+                : ReviewCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.ofSize(size + 1);
+
+        List<ReviewPageRowDTO> rows = switch (reviewSort) {
+            case NEWEST -> reviewRepository.findNewestReviews(
+                    movieId, reviewCursor.regDt(), reviewCursor.reviewId(), limit);
+            case HIGHEST -> reviewRepository.findHighestRatedReviews(
+                    movieId, reviewCursor.rating(), reviewCursor.regDt(), reviewCursor.reviewId(), limit);
+            case LOWEST -> reviewRepository.findLowestRatedReviews(
+                    movieId, reviewCursor.rating(), reviewCursor.regDt(), reviewCursor.reviewId(), limit);
+        };
+
+        boolean hasNext = rows.size() > size;
+        List<ReviewPageRowDTO> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext ? ReviewCursor.from(pageRows.get(pageRows.size() - 1)).encode() : null;
+
+        ReviewPageDTO rDTO = ReviewPageDTO.builder()
+                .reviews(pageRows.stream().map(ReviewPageRowDTO::toReviewDTO).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
 
-        Optional<MovieEntity> movieEntity = movieRepository.findByTmdbId(movieId);
+        log.info(this.getClass().getSimpleName(), "getReviewsForMovies End!");
 
-        if (movieEntity.isEmpty()) {
-            log.warn("Movie not found with id: " + movieId);
-            return Collections.emptyList();
-        }
+        return rDTO;
+    }
 
-        List<ReviewEntity> reviewEntities = reviewRepository.findByMovie(movieEntity.get());
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ReviewDTO> getMyReviewForMovie(Long movieId, String userEmail) {
+        log.info(this.getClass().getSimpleName(), "getMyReviewForMovie Start!");
 
-        List<ReviewDTO> dtoList = reviewEntities.stream()
-                .map(ReviewDTO::fromEntity)
-                .toList();
+        // 같은 영화에 리뷰가 여러 개 있으면 가장 최근 리뷰
+        Optional<ReviewDTO> rDTO = reviewRepository.findMovieReviewsByEmail(movieId, userEmail, PageRequest.ofSize(1)).stream()
+                .findFirst()
+                .map(ReviewPageRowDTO::toReviewDTO);
 
-        log.info(this.getClass().getSimpleName(), "getReviewsForMovies End!");
+        log.info(this.getClass().getSimpleName(), "getMyReviewForMovie End!");
 
-        return dtoList;
+        return rDTO;
     }
 
     @Override
@@ -73,14 +123,17 @@ public class ReviewService implements IReviewService {
                     MovieEntity newMovieEntity = MovieEntity.builder()
                             .tmdbId(movieDetail.id())
                             .title(movieDetail.title())
+                            .originalTitle(movieDetail.originalTitle())
                             .overview(movieDetail.overview())
                             .posterPath(movieDetail.poster_path())
                             .releaseDate(movieDetail.release_date())
                             .voteAverage(movieDetail.vote_average())
                             .build();
 
-                    // DB에 저장
-                    return movieRepository.save(newMovieEntity);
+                    // DB에 저장 (커밋 후 검색 색인에 반영)
+                    MovieEntity savedMovie = movieRepository.save(newMovieEntity);
+                    eventPublisher.publishEvent(new MoviesIngestedEvent(List.of(savedMovie.getTmdbId())));
+                    return savedMovie;
                 });
 
         // 2. 사용자 정보 조회
@@ -97,6 +150,19 @@ public class ReviewService implements IReviewService {
 
         reviewRepository.save(reviewEntity);
 
+        // 4. 영화 별점 집계 갱신 (같은 트랜잭션)
+        movieRatingStatsService.reviewAdded(movieEntity, reviewEntity.getRating());
+
+        // 5. 사용자 별점 벡터 갱신 (같은 트랜잭션)
+        userRatingVectorService.ratingChanged(userInfoEntity.getId(), movieEntity.getMoviePk(), reviewEntity.getRating());
+
+        // 6. 팔로워 피드 전달 (커밋 후 백그라운드에서 처리)
+        eventPublisher.publishEvent(new ReviewPostedEvent(reviewEntity.getReviewId(), userInfoEntity.getId()));
+
+        // 7. 인기 급상승 점수 반영 (커밋 후 처리)
+        eventPublisher.publishEvent(new ReviewActivityEvent(
+                movieEntity.getTmdbId(), reviewEntity.getRegDt(), null, reviewEntity.getRating()));
+
         log.info(this.getClass().getSimpleName(), "postReview End!");
 
     }
@@ -117,8 +183,21 @@ public class ReviewService implements IReviewService {
             throw new IllegalArgumentException("User not authorized to update review");
         }
 
+        double oldRating = reviewEntity.getRating();
+
         reviewEntity.updateReview(review.rating(), review.content());
 
+        // 영화 별점 집계 갱신 (같은 트랜잭션)
+        movieRatingStatsService.reviewUpdated(reviewEntity.getMovie(), oldRating, reviewEntity.getRating());
+
+        // 사용자 별점 벡터 갱신 (같은 트랜잭션)
+        userRatingVectorService.ratingChanged(
+                reviewEntity.getUser().getId(), reviewEntity.getMovie().getMoviePk(), reviewEntity.getRating());
+
+        // 인기 급상승 점수 반영 (커밋 후 처리)
+        eventPublisher.publishEvent(new ReviewActivityEvent(
+                reviewEntity.getMovie().getTmdbId(), reviewEntity.getRegDt(), oldRating, reviewEntity.getRating()));
+
         log.info(this.getClass().getSimpleName(), "updateReview End!");
 
     }
@@ -141,6 +220,16 @@ public class ReviewService implements IReviewService {
 
         reviewRepository.deleteById(reviewId);
 
+        // 영화 별점 집계 갱신 (같은 트랜잭션)
+        movieRatingStatsService.reviewRemoved(reviewEntity.getMovie(), reviewEntity.getRating());
+
+        // 사용자 별점 벡터 갱신 (같은 트랜잭션)
+        userRatingVectorService.ratingRemoved(reviewEntity.getUser().getId(), reviewEntity.getMovie().getMoviePk());
+
+        // 인기 급상승 점수 반영 (커밋 후 처리)
+        eventPublisher.publishEvent(new ReviewActivityEvent(
+                reviewEntity.getMovie().getTmdbId(), reviewEntity.getRegDt(), reviewEntity.getRating(), null));
+
         log.info(this.getClass().getSimpleName(), "deleteReview End!");
     }
 
@@ -150,13 +239,8 @@ public class ReviewService implements IReviewService {
         log.info(this.getClass().getSimpleName(), "getReviewByUserId Start!");
         log.info("userId: " + userId);
 
-        // Repository에서 JOIN FETCH로 구현한 쿼리 호출
-        List<ReviewEntity> reviewEntities = reviewRepository.findAllByUserId(userId);
-
-        // Entity 리스트를 DTO 리스트로 변환
-        List<ReviewDTO> dtoList = reviewEntities.stream()
-                .map(ReviewDTO::fromEntity)
-                .toList();
+        // 엔티티를 로딩하지 않고 ReviewDTO 로 바로 조회 (쿼리 1회)
+        List<ReviewDTO> dtoList = reviewRepository.findReviewDTOsByUserId(userId);
 
         log.info("Found {} reviews for user {}", dtoList.size(), userId);
         log.info(this.getClass().getSimpleName(), "getReviewByUserId End!");
@@ -166,19 +250,20 @@ public class ReviewService implements IReviewService {
 
     @Override
     @Transactional(readOnly = true)
-    public Map<String, List<ReviewDTO>> getRatingsCalender(Long userId) {
+    public Map<String, List<RatingCalendarEntryDTO>> getRatingsCalender(Long userId, YearMonth month) {
         log.info(this.getClass().getSimpleName(), "getRatingsCalender Start!");
-        log.info("userId: " + userId);
+        log.info("userId: " + userId + ", month: " + month);
 
-        // 1. 사용자의 모든 리뷰를 영화 정보와 함께 조회
-        List<ReviewEntity> reviewEntities = reviewRepository.findAllByUserId(userId);
+        // 1. 해당 월의 리뷰만 날짜순으로 조회 (user_id, reg_dt 인덱스 범위 검색)
+        List<RatingCalendarEntryDTO> entries = reviewRepository.findCalendarEntries(
+                userId, month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
 
-        // 2. 리뷰 목록을 날짜(yyyy-MM-dd) 별로 그룹핑
-        Map<String, List<ReviewDTO>> calendarData = reviewEntities.stream()
+        // 2. 이미 날짜순으로 정렬되어 있으므로 순서를 유지하며 날짜(yyyy-MM-dd)별로 묶음
+        Map<String, List<RatingCalendarEntryDTO>> calendarData = entries.stream()
                 .collect(Collectors.groupingBy(
-                                review -> review.getRegDt().toLocalDate().toString(),
-                                Collectors.mapping(ReviewDTO::fromEntity, Collectors.toList())
-                        ));
+                        entry -> entry.ratedDate().toString(),
+                        LinkedHashMap::new,
+                        Collectors.toList()));
 
         log.info("Generated calendar data for user {}", calendarData.size());
         log.info(this.getClass().getSimpleName(), "getRatingsCalender End!");
@@ -188,23 +273,95 @@ public class ReviewService implements IReviewService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ReviewDTO> getReviewsByUserEmail(String userEmail) {
-        log.info(this.getClass().getSimpleName(), "getReviewsByUserEmail Start!");
+    public RatingMonthSummaryDTO getMonthlyRatingSummary(Long userId, YearMonth month) {
+        log.info(this.getClass().getSimpleName(), "getMonthlyRatingSummary Start!");
+        log.info("userId: " + userId + ", month: " + month);
 
-        // 1. 이메일로 UserInfoEntity 찾기
-        UserInfoEntity userInfoEntity = userInfoRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("User not found with email: " + userEmail));
+        List<DailyRatingCountDTO> dailyRows = reviewRepository.countDailyRatings(
+                userId, month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
 
-        // 2. 찾은 UserInfoEntity로 모든 ReviewEntity 찾기 (1단계에서 만든 메소드 사용)
-        List<ReviewEntity> reviewEntities = reviewRepository.findAllByUserId(userInfoEntity.getId());
+        Map<String, Long> dailyCounts = new LinkedHashMap<>();
+        long reviewCount = 0;
+        double ratingSum = 0;
 
-        // 3. ReviewEntity 목록을 ReviewDTO 목록으로 변환
-        List<ReviewDTO> dtoList = reviewEntities.stream()
-                .map(ReviewDTO::fromEntity)
-                .toList();
+        for (DailyRatingCountDTO row : dailyRows) {
+            dailyCounts.put(row.ratedDate().toString(), row.reviewCount());
+            reviewCount += row.reviewCount();
+            ratingSum += row.ratingSum();
+        }
+
+        double average = (reviewCount > 0) ? ratingSum / reviewCount : 0;
+
+        log.info(this.getClass().getSimpleName(), "getMonthlyRatingSummary End!");
+
+        return RatingMonthSummaryDTO.builder()
+                .year(month.getYear())
+                .month(month.getMonthValue())
+                .reviewCount(reviewCount)
+                .averageRating(Math.round(average * 100) / 100.0)
+                .dailyCounts(dailyCounts)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReviewDTO> getReviewsByUserEmail(String userEmail) {
+        log.info(this.getClass().getSimpleName(), "getReviewsByUserEmail Start!");
+
+        // 사용자 조회 없이 이메일 조건으로 ReviewDTO 를 바로 조회 (쿼리 1회)
+        List<ReviewDTO> dtoList = reviewRepository.findReviewDTOsByUserEmail(userEmail);
 
         log.info("Found {} reviews for user {}", dtoList.size(), userEmail);
         log.info(this.getClass().getSimpleName(), "getReviewsByUserEmail End!");
         return dtoList;
     }
+
+    /**
+     * 영화 리뷰 목록 정렬 방식
+     */
+    private enum ReviewSort {
+        NEWEST,
+        HIGHEST,
+        LOWEST;
+
+        static ReviewSort fromName(String name) {
+            return Arrays.stream(values())
+                    .filter(sort -> sort.name().equalsIgnoreCase(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown review sort: " + name));
+        }
+
+        // 첫 페이지 조회용 커서 (모든 리뷰보다 앞에 위치하는 값)
+        ReviewCursor firstCursor() {
+            double rating = (this == LOWEST) ? -Double.MAX_VALUE : Double.MAX_VALUE;
+            return new ReviewCursor(rating, LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * 리뷰 목록 커서: 이전 페이지 마지막 리뷰의 (별점, 작성일시, 리뷰 ID)
+     * 클라이언트에는 Base64(URL-safe) 문자열로 전달합니다.
+     */
+    private record ReviewCursor(Double rating, LocalDateTime regDt, Long reviewId) {
+
+        static ReviewCursor from(ReviewPageRowDTO row) {
+            return new ReviewCursor(row.rating(), row.regDt(), row.reviewId());
+        }
+
+        String encode() {
+            String raw = rating + "," + regDt + "," + reviewId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static ReviewCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split(",");
+
+                return new ReviewCursor(Double.valueOf(parts[0]), LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid review cursor: " + cursor, e);
+            }
+        }
+    }
 }
@@ -0,0 +1,361 @@
+package kopo.sideproject.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import kopo.sideproject.util.UpstreamErrorUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * TMDB 응답을 위한 2단계 캐시
+ * 1단계: 서버 메모리(Caffeine, 크기 제한) / 2단계: Redis (서버 간 공유)
+ * 같은 키에 대한 동시 캐시 미스는 호출하는 쪽(single-flight)에서 하나의 TMDB 호출로 합칩니다.
+ * (1단계 캐시의 로더 안에서 Redis/TMDB 를 호출하면 그동안 같은 해시 구간의 다른 키 조회까지 막히므로 캐시 밖에서 조회 후 저장)
+ * TMDB 를 사용할 수 없을 때(서킷 열림, 시간 초과, 5xx)는 Redis 에 따로 오래 보관한 마지막 정상 응답을 대신 반환하고,
+ * 그 응답을 받은 요청마다 STALE_RESPONSE_ATTRIBUTE 를 표시합니다. (StaleResponseAdvice 가 Warning 헤더 추가)
+ * 검색은 검색어마다 키가 생겨 Redis 사용량이 사용자 입력에 따라 늘어나므로 마지막 정상 응답을 보관하지 않습니다.
+ */
+@Slf4j
+@Service
+public class TmdbCacheService {
+
+    /**
+     * TMDB API 종류별 캐시 설정 (기본값은 tmdb.cache.{name}.ttl / tmdb.cache.{name}.max-size 로 변경 가능)
+     */
+    public enum Family {
+        POPULAR("popular", Duration.ofMinutes(30), 100, true),
+        NOW_PLAYING("now-playing", Duration.ofMinutes(30), 100, true),
+        UPCOMING("upcoming", Duration.ofHours(1), 100, true),
+        SEARCH("search", Duration.ofMinutes(10), 2000, false),
+        DETAIL("detail", Duration.ofHours(6), 2000, true);
+
+        private final String cacheName;
+        private final Duration defaultTtl;
+        private final long defaultMaxSize;
+
+        // TMDB 장애 시 대신할 마지막 정상 응답(tmdb:stale:)을 보관할지 여부
+        private final boolean keepStale;
+
+        Family(String cacheName, Duration defaultTtl, long defaultMaxSize, boolean keepStale) {
+            this.cacheName = cacheName;
+            this.defaultTtl = defaultTtl;
+            this.defaultMaxSize = defaultMaxSize;
+            this.keepStale = keepStale;
+        }
+    }
+
+    private static final String REDIS_KEY_PREFIX = "tmdb:";
+
+    // 마지막 정상 응답 (TTL 이 지나 캐시에서 사라진 뒤에도 장애 시 대신 응답하기 위해 보관)
+    private static final String STALE_KEY_PREFIX = "tmdb:stale:";
+
+    // 이전 응답으로 대신한 요청에 표시하는 요청 속성 이름
+    public static final String STALE_RESPONSE_ATTRIBUTE = TmdbCacheService.class.getName() + ".STALE";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 논블로킹 조회에서 같은 키로 진행 중인 캐시 미스 (하나의 TMDB 호출로 합침)
+    private final ConcurrentMap<String, Mono<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+    private final Map<Family, Cache<String, Object>> localCaches = new EnumMap<>(Family.class);
+    private final Map<Family, Duration> ttls = new EnumMap<>(Family.class);
+
+    private final Map<Family, Counter> redisHits = new EnumMap<>(Family.class);
+    private final Map<Family, Counter> redisMisses = new EnumMap<>(Family.class);
+    private final Map<Family, Counter> staleServed = new EnumMap<>(Family.class);
+
+    private final Duration staleTtl;
+
+    public TmdbCacheService(StringRedisTemplate redisTemplate, ReactiveStringRedisTemplate reactiveRedisTemplate,
+                            ObjectMapper objectMapper, MeterRegistry meterRegistry, Environment env) {
+        this.redisTemplate = redisTemplate;
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.staleTtl = env.getProperty("tmdb.cache.stale-ttl", Duration.class, Duration.ofDays(7));
+
+        for (Family family : Family.values()) {
+            String prefix = "tmdb.cache." + family.cacheName;
+
+            Duration ttl = env.getProperty(prefix + ".ttl", Duration.class, family.defaultTtl);
+            long maxSize = env.getProperty(prefix + ".max-size", Long.class, family.defaultMaxSize);
+
+            Cache<String, Object> cache = Caffeine.newBuilder()
+                    .maximumSize(maxSize) // 크기 초과 시 오래 사용되지 않은 항목부터 제거
+                    .expireAfterWrite(ttl)
+                    .recordStats() // 적중/미스/제거 횟수 기록
+                    .build();
+
+            // 1단계 캐시 적중/미스/제거 횟수를 메트릭(cache.gets, cache.evictions ...)으로 등록
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "tmdb." + family.cacheName);
+
+            localCaches.put(family, cache);
+            ttls.put(family, ttl);
+
+            redisHits.put(family, Counter.builder("tmdb.cache.redis")
+                    .tag("cache", family.cacheName).tag("result", "hit").register(meterRegistry));
+            redisMisses.put(family, Counter.builder("tmdb.cache.redis")
+                    .tag("cache", family.cacheName).tag("result", "miss").register(meterRegistry));
+            staleServed.put(family, Counter.builder("tmdb.cache.stale")
+                    .tag("cache", family.cacheName).register(meterRegistry));
+        }
+    }
+
+    /**
+     * 조회 결과와 이전 응답으로 대신했는지 여부
+     * single-flight 로 한 번의 조회 결과를 여러 요청이 나눠 받는 경우, 각 요청이 unwrap() 으로 자기 요청에 표시합니다.
+     */
+    public record Lookup<T>(T value, boolean stale) {
+    }
+
+    /**
+     * 캐시에서 값을 조회하고, 없으면 loader 로 TMDB 를 호출하여 두 캐시 모두에 저장합니다.
+     * 요청에 표시하지 않으므로 결과를 받은 요청 스레드에서 unwrap() 을 호출해야 합니다.
+     *
+     * @param family TMDB API 종류
+     * @param key    요청 파라미터로 만든 캐시 키
+     * @param type   응답 DTO 타입
+     * @param loader 캐시 미스 시 실행할 TMDB 호출
+     * @return 캐시 또는 TMDB 응답 (TMDB 응답이 null 이면 null, TMDB 장애 시에는 마지막 정상 응답)
+     */
+    public <T> Lookup<T> lookup(Family family, String key, Class<T> type, Supplier<T> loader) {
+        Cache<String, Object> cache = localCaches.get(family);
+        Object cached = cache.getIfPresent(key);
+
+        if (cached != null) {
+            return new Lookup<>(type.cast(cached), false);
+        }
+
+        try {
+            T value = loadFromRedisOrUpstream(family, key, type, loader);
+
+            if (value != null) {
+                cache.put(key, value);
+            }
+
+            return new Lookup<>(value, false);
+        } catch (RuntimeException e) {
+            if (!UpstreamErrorUtil.isUnavailable(e)) {
+                throw e;
+            }
+
+            T stale = readStale(family, key, type);
+
+            if (stale == null) {
+                throw e;
+            }
+
+            recordStale(family, key, e);
+
+            return new Lookup<>(stale, true);
+        }
+    }
+
+    /**
+     * 조회 결과의 값을 반환하고, 이전 응답으로 대신한 경우 현재 요청에 표시합니다.
+     */
+    public <T> T unwrap(Lookup<T> lookup) {
+        if (lookup.stale()) {
+            markStaleRequest(currentRequest());
+        }
+
+        return lookup.value();
+    }
+
+    /**
+     * get() 의 논블로킹 버전 (WebClient TMDB 호출용)
+     * 1단계 캐시에 없으면 Redis 조회와 TMDB 호출을 스레드를 점유하지 않고 진행하며, 같은 키의 동시 캐시 미스는 하나의 호출로 합칩니다.
+     *
+     * @param loader 캐시 미스 시 실행할 TMDB 호출
+     * @return 캐시 또는 TMDB 응답 (TMDB 응답이 없으면 empty)
+     */
+    public <T> Mono<T> getReactive(Family family, String key, Class<T> type, Supplier<Mono<T>> loader) {
+        Object cached = localCaches.get(family).getIfPresent(key);
+
+        if (cached != null) {
+            return Mono.just(type.cast(cached));
+        }
+
+        // 응답은 다른 스레드에서 만들어지므로 요청은 지금 잡아 둠
+        HttpServletRequest request = currentRequest();
+
+        String loadKey = family.cacheName + ":" + key;
+
+        Mono<Object> load = inFlightLoads.computeIfAbsent(loadKey, k -> loadFromRedisOrUpstreamReactive(family, key, type, loader)
+                .doOnNext(value -> localCaches.get(family).put(key, value))
+                .doFinally(signal -> inFlightLoads.remove(k))
+                .cache());
+
+        return load.map(type::cast)
+                .onErrorResume(UpstreamErrorUtil::isUnavailable, e -> readStaleReactive(family, key, type)
+                        .doOnNext(stale -> {
+                            recordStale(family, key, e);
+                            markStaleRequest(request);
+                        })
+                        .switchIfEmpty(Mono.error(e)));
+    }
+
+    private <T> Mono<Object> loadFromRedisOrUpstreamReactive(Family family, String key, Class<T> type, Supplier<Mono<T>> loader) {
+        String redisKey = REDIS_KEY_PREFIX + family.cacheName + ":" + key;
+
+        // 1. Redis 조회 (Redis 장애 시에는 캐시 없이 TMDB 호출)
+        Mono<Object> fromRedis = reactiveRedisTemplate.opsForValue().get(redisKey)
+                .<Object>handle((json, sink) -> {
+                    try {
+                        sink.next(objectMapper.readValue(json, type));
+                    } catch (Exception e) {
+                        sink.error(e);
+                    }
+                })
+                .doOnNext(value -> redisHits.get(family).increment())
+                .onErrorResume(e -> {
+                    log.warn("Redis 캐시 조회 실패 key: {}, {}", redisKey, e.getMessage());
+                    return Mono.empty();
+                });
+
+        // 2. TMDB 호출 후 3. Redis 저장 (저장은 응답을 기다리지 않음)
+        Mono<Object> fromUpstream = Mono.defer(() -> {
+            redisMisses.get(family).increment();
+
+            return loader.get()
+                    .doOnNext(value -> {
+                        try {
+                            String json = objectMapper.writeValueAsString(value);
+
+                            Mono<Boolean> saveStale = family.keepStale
+                                    ? reactiveRedisTemplate.opsForValue().set(staleKey(family, key), json, staleTtl)
+                                    : Mono.empty();
+
+                            reactiveRedisTemplate.opsForValue()
+                                    .set(redisKey, json, ttls.get(family))
+                                    .then(saveStale)
+                                    .subscribe(null, e -> log.warn("Redis 캐시 저장 실패 key: {}, {}", redisKey, e.getMessage()));
+                        } catch (Exception e) {
+                            log.warn("Redis 캐시 저장 실패 key: {}, {}", redisKey, e.getMessage());
+                        }
+                    })
+                    .cast(Object.class);
+        });
+
+        return fromRedis.switchIfEmpty(fromUpstream);
+    }
+
+    private <T> T loadFromRedisOrUpstream(Family family, String key, Class<T> type, Supplier<T> loader) {
+        String redisKey = REDIS_KEY_PREFIX + family.cacheName + ":" + key;
+
+        // 1. Redis 조회 (Redis 장애 시에는 캐시 없이 TMDB 호출)
+        try {
+            String json = redisTemplate.opsForValue().get(redisKey);
+
+            if (json != null) {
+                redisHits.get(family).increment();
+                return objectMapper.readValue(json, type);
+            }
+        } catch (Exception e) {
+            log.warn("Redis 캐시 조회 실패 key: {}, {}", redisKey, e.getMessage());
+        }
+
+        redisMisses.get(family).increment();
+
+        // 2. TMDB 호출
+        T value = loader.get();
+
+        // 3. Redis 저장
+        if (value != null) {
+            try {
+                String json = objectMapper.writeValueAsString(value);
+
+                redisTemplate.opsForValue().set(redisKey, json, ttls.get(family));
+
+                if (family.keepStale) {
+                    redisTemplate.opsForValue().set(staleKey(family, key), json, staleTtl);
+                }
+            } catch (Exception e) {
+                log.warn("Redis 캐시 저장 실패 key: {}, {}", redisKey, e.getMessage());
+            }
+        }
+
+        return value;
+    }
+
+    private <T> T readStale(Family family, String key, Class<T> type) {
+        if (!family.keepStale) {
+            return null;
+        }
+
+        try {
+            String json = redisTemplate.opsForValue().get(staleKey(family, key));
+
+            return json != null ? objectMapper.readValue(json, type) : null;
+        } catch (Exception e) {
+            log.warn("이전 응답 조회 실패 key: {}, {}", staleKey(family, key), e.getMessage());
+            return null;
+        }
+    }
+
+    private <T> Mono<T> readStaleReactive(Family family, String key, Class<T> type) {
+        if (!family.keepStale) {
+            return Mono.empty();
+        }
+
+        return reactiveRedisTemplate.opsForValue().get(staleKey(family, key))
+                .<T>handle((json, sink) -> {
+                    try {
+                        sink.next(objectMapper.readValue(json, type));
+                    } catch (Exception e) {
+                        sink.error(e);
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.warn("이전 응답 조회 실패 key: {}, {}", staleKey(family, key), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 이전 응답으로 대신했음을 기록합니다.
+     */
+    private void recordStale(Family family, String key, Throwable cause) {
+        log.warn("TMDB 를 사용할 수 없어 이전 응답으로 대신합니다. cache: {}, key: {}, {}", family.cacheName, key, cause.toString());
+
+        staleServed.get(family).increment();
+    }
+
+    /**
+     * 이전 응답으로 대신한 요청에 표시합니다. (StaleResponseAdvice 가 Warning 헤더 추가)
+     */
+    private static void markStaleRequest(HttpServletRequest request) {
+        if (request != null) {
+            request.setAttribute(STALE_RESPONSE_ATTRIBUTE, Boolean.TRUE);
+        }
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest()
+                : null;
+    }
+
+    private static String staleKey(Family family, String key) {
+        return STALE_KEY_PREFIX + family.cacheName + ":" + key;
+    }
+}
@@ -0,0 +1,265 @@
+package kopo.sideproject.service.impl;
+
+import kopo.sideproject.dto.TmdbResponseDTO;
+import kopo.sideproject.event.ReviewActivityEvent;
+import kopo.sideproject.repository.MovieRepository;
+import kopo.sideproject.repository.ReviewRepository;
+import kopo.sideproject.repository.entity.MovieEntity;
+import kopo.sideproject.service.ITrendingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 우리 서비스의 리뷰를 기준으로 한 인기 급상승 영화 순위
+ * <p>
+ * 기간(1시간, 24시간, 7일)마다 Redis 정렬 집합(trending:{기간})에 영화별 점수를 두고, 리뷰가 바뀔 때마다 점수를 더합니다.
+ * 점수는 기간을 반감기로 하는 시간 감쇠 합계이며, 오래된 리뷰의 점수를 매번 줄이는 대신
+ * 새 리뷰의 점수를 기준 시각(epoch)으로부터 지난 시간만큼 키워서 더합니다. (forward decay)
+ * 기준 시각은 주기적으로 현재로 옮기면서 전체 점수를 같은 비율로 줄입니다. (ZUNIONSTORE WEIGHTS)
+ * <p>
+ * 순위 조회는 정렬 집합 상위 N개 조회 한 번이므로 리뷰 수와 관계없이 일정한 시간에 응답합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingService implements ITrendingService {
+
+    private static final String TRENDING_KEY = "trending:";
+    private static final String EPOCH_KEY = "trending:epoch:";
+
+    // 이보다 작은 점수는 기준 시각을 옮길 때 삭제 (삭제된 리뷰, 충분히 오래된 리뷰)
+    private static final double MIN_SCORE = 0.01;
+
+    // 서버 시작 시 점수를 다시 계산할 기간 (가장 긴 반감기의 4배 => 남은 점수 1/16)
+    private static final int BACKFILL_HALF_LIVES = 4;
+
+    private static final int MAX_LIMIT = 50;
+
+    /**
+     * 집계 기간 (기간 = 점수의 반감기)
+     */
+    private enum TrendingWindow {
+        HOUR("1h", Duration.ofHours(1)),
+        DAY("24h", Duration.ofHours(24)),
+        WEEK("7d", Duration.ofDays(7));
+
+        private final String windowName;
+        private final Duration halfLife;
+
+        TrendingWindow(String windowName, Duration halfLife) {
+            this.windowName = windowName;
+            this.halfLife = halfLife;
+        }
+
+        static TrendingWindow fromName(String name) {
+            return Arrays.stream(values())
+                    .filter(window -> window.windowName.equalsIgnoreCase(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown trending window: " + name));
+        }
+
+        String scoreKey() {
+            return TRENDING_KEY + windowName;
+        }
+
+        String epochKey() {
+            return EPOCH_KEY + windowName;
+        }
+    }
+
+    // KEYS = (점수 키, 기준 시각 키) * 기간 수, ARGV = 영화, 가중치, 리뷰 시각, 현재 시각, 기간별 반감기(초)
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS / 2 do " +
+                    "  local epoch = tonumber(redis.call('GET', KEYS[2 * i])) " +
+                    "  if not epoch then " +
+                    "    epoch = tonumber(ARGV[4]) " +
+                    "    redis.call('SET', KEYS[2 * i], ARGV[4]) " +
+                    "  end " +
+                    "  local score = tonumber(ARGV[2]) * math.pow(2, (tonumber(ARGV[3]) - epoch) / tonumber(ARGV[4 + i])) " +
+                    "  redis.call('ZINCRBY', KEYS[2 * i - 1], score, ARGV[1]) " +
+                    "end " +
+                    "return 1",
+            Long.class);
+
+    // KEYS = 점수 키, 기준 시각 키, ARGV = 새 기준 시각, 반감기(초), 최소 점수
+    private static final RedisScript<Long> REBASE_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = tonumber(redis.call('GET', KEYS[2])) " +
+                    "if epoch and redis.call('EXISTS', KEYS[1]) == 1 then " +
+                    "  local factor = math.pow(2, (epoch - tonumber(ARGV[1])) / tonumber(ARGV[2])) " +
+                    "  redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', factor) " +
+                    "  redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[3]) " +
+                    "end " +
+                    "redis.call('SET', KEYS[2], ARGV[1]) " +
+                    "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MovieRepository movieRepository;
+    private final ReviewRepository reviewRepository;
+
+    @Override
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void reviewActivity(ReviewActivityEvent event) {
+        // 작성/수정/삭제 모두 리뷰 작성 시각 기준 점수의 차이만 반영 (삭제하면 작성 시 더한 점수가 그대로 빠짐)
+        double delta = weight(event.newRating()) - weight(event.oldRating());
+
+        if (delta == 0) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>(List.of(
+                String.valueOf(event.tmdbId()),
+                String.valueOf(delta),
+                String.valueOf(toEpochSecond(event.regDt())),
+                String.valueOf(nowSeconds())));
+
+        for (TrendingWindow window : TrendingWindow.values()) {
+            keys.add(window.scoreKey());
+            keys.add(window.epochKey());
+            args.add(String.valueOf(window.halfLife.toSeconds()));
+        }
+
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, keys, args.toArray());
+        } catch (DataAccessException e) {
+            // 반영하지 못한 점수는 다음 서버 시작 시 재계산됨
+            log.warn("Failed to update trending score for movie {}: {}", event.tmdbId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public List<TmdbResponseDTO.MovieResultDto> getTrendingMovies(String window, int limit) {
+        log.info(this.getClass().getSimpleName() + ".getTrendingMovies Start!");
+
+        TrendingWindow trendingWindow = TrendingWindow.fromName(window);
+
+        Set<String> members;
+        try {
+            members = redisTemplate.opsForZSet()
+                    .reverseRange(trendingWindow.scoreKey(), 0, Math.max(1, Math.min(limit, MAX_LIMIT)) - 1);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read trending movies: {}", e.getMessage());
+            return List.of();
+        }
+
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> tmdbIds = members.stream().map(Long::valueOf).toList();
+
+        // 점수 순서를 유지하며 영화 정보를 채움 (IN 쿼리 한 번)
+        Map<Long, MovieEntity> moviesById = movieRepository.findByTmdbIdIn(tmdbIds).stream()
+                .collect(Collectors.toMap(MovieEntity::getTmdbId, Function.identity()));
+
+        List<TmdbResponseDTO.MovieResultDto> rList = tmdbIds.stream()
+                .map(moviesById::get)
+                .filter(Objects::nonNull)
+                .map(TmdbResponseDTO.MovieResultDto::fromEntity)
+                .toList();
+
+        log.info(this.getClass().getSimpleName() + ".getTrendingMovies End!");
+
+        return rList;
+    }
+
+    /**
+     * 기준 시각을 현재로 옮깁니다. (점수가 지나치게 커지지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${trending.rebase-interval:PT10M}")
+    public void rebase() {
+        String now = String.valueOf(nowSeconds());
+
+        try {
+            for (TrendingWindow window : TrendingWindow.values()) {
+                redisTemplate.execute(REBASE_SCRIPT, List.of(window.scoreKey(), window.epochKey()),
+                        now, String.valueOf(window.halfLife.toSeconds()), String.valueOf(MIN_SCORE));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to rebase trending scores: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 에 점수가 없으면 최근 리뷰로부터 다시 계산합니다. (기능 도입 전 리뷰, Redis 초기화)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(TrendingWindow.WEEK.epochKey()))) {
+                return;
+            }
+
+            log.info(this.getClass().getSimpleName() + ".rebuildIfEmpty Start!");
+
+            long now = nowSeconds();
+            Duration backfill = TrendingWindow.WEEK.halfLife.multipliedBy(BACKFILL_HALF_LIVES);
+
+            List<Object[]> rows = reviewRepository.findRatingsSince(LocalDateTime.now().minus(backfill));
+
+            for (TrendingWindow window : TrendingWindow.values()) {
+                Map<String, Double> scores = new HashMap<>();
+
+                for (Object[] row : rows) {
+                    double rating = ((Number) row[1]).doubleValue();
+                    long age = now - toEpochSecond((LocalDateTime) row[2]);
+                    double score = weight(rating) * Math.pow(2, -(double) age / window.halfLife.toSeconds());
+
+                    scores.merge(String.valueOf(row[0]), score, Double::sum);
+                }
+
+                Set<ZSetOperations.TypedTuple<String>> tuples = scores.entrySet().stream()
+                        .filter(entry -> entry.getValue() >= MIN_SCORE)
+                        .<ZSetOperations.TypedTuple<String>>map(entry -> new DefaultTypedTuple<>(entry.getKey(), entry.getValue()))
+                        .collect(Collectors.toSet());
+
+                redisTemplate.delete(window.scoreKey());
+                if (!tuples.isEmpty()) {
+                    redisTemplate.opsForZSet().add(window.scoreKey(), tuples);
+                }
+                redisTemplate.opsForValue().set(window.epochKey(), String.valueOf(now));
+            }
+
+            log.info("Rebuilt trending scores from {} reviews", rows.size());
+            log.info(this.getClass().getSimpleName() + ".rebuildIfEmpty End!");
+
+        } catch (DataAccessException e) {
+            log.warn("Failed to rebuild trending scores: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 리뷰 하나의 가중치 (별점이 높을수록 조금 더 큼: 0.5점 => 0.6, 5.0점 => 1.5, 리뷰 없음 => 0)
+     */
+    private static double weight(Double rating) {
+        return (rating == null) ? 0 : 1 + (rating - 2.5) / 5;
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
@@ -201,18 +201,9 @@ public class UserInfoService implements IUserInfoService {
         // 5. 데이터베이스에 저장할 웹 접근 가능 경로
         String dbPath = "/images/profiles/" + newFileName;
 
-        // 6. 엔티티 업데이트 및 DB 저장
-        // 기존 엔티티를 기반으로 새로운 엔티티를 생성 (불변성 유지)
-        UserInfoEntity updateEntity = UserInfoEntity.builder()
-                .id(userEntity.getId())
-                .email(userEntity.getEmail())
-                .password(userEntity.getPassword())
-                .nickname(userEntity.getNickname())
-                .profileImg(dbPath)
-                .regDt(userEntity.getRegDt())
-                .build();
-
-        userInfoRepository.save(updateEntity);
+        // 6. 프로필 이미지 컬럼만 갱신
+        // (엔티티 전체를 저장하면 다른 트랜잭션이 바꾼 팔로워/팔로잉 수를 조회 시점 값으로 덮어쓸 수 있음)
+        userInfoRepository.updateProfileImg(userEntity.getId(), dbPath);
 
         log.info("{}.updateProfileImage() End!", this.getClass().getName());
     }
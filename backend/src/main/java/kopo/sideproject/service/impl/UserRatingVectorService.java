@@ -0,0 +1,141 @@
+package kopo.sideproject.service.impl;
+
+import kopo.sideproject.dto.TasteMatchDTO;
+import kopo.sideproject.event.RatingVectorMissingEvent;
+import kopo.sideproject.repository.ReviewRepository;
+import kopo.sideproject.repository.UserInfoRepository;
+import kopo.sideproject.repository.UserRatingVectorRepository;
+import kopo.sideproject.repository.entity.UserRatingVectorEntity;
+import kopo.sideproject.service.IUserRatingVectorService;
+import kopo.sideproject.util.RatingVector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자별 별점 벡터(USER_RATING_VECTOR)를 관리하고, 두 벡터를 병합하여 취향 일치도를 계산하는 서비스
+ * 기능 도입 전에 리뷰를 작성한 사용자의 벡터는 조회 시에는 REVIEWS 테이블에서 만들어 쓰기만 하고,
+ * 저장은 조회가 끝난 뒤 별도 트랜잭션(backfillVector)에서 한 번 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserRatingVectorService implements IUserRatingVectorService {
+
+    private final UserRatingVectorRepository userRatingVectorRepository;
+    private final ReviewRepository reviewRepository;
+    private final UserInfoRepository userInfoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public void ratingChanged(Long userId, Long moviePk, double rating) {
+        UserRatingVectorEntity entity = lockVector(userId);
+
+        RatingVector vector = RatingVector.decode(entity.getVector()).with(moviePk, rating);
+
+        entity.updateVector(vector.encode(), vector.size());
+    }
+
+    @Override
+    @Transactional
+    public void ratingRemoved(Long userId, Long moviePk) {
+        UserRatingVectorEntity entity = lockVector(userId);
+
+        RatingVector vector = RatingVector.decode(entity.getVector()).without(moviePk);
+
+        entity.updateVector(vector.encode(), vector.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TasteMatchDTO getTasteMatch(String viewerEmail, Long otherUserId) {
+        log.info(this.getClass().getSimpleName() + ".getTasteMatch Start!");
+
+        Long viewerId = userInfoRepository.findIdByEmail(viewerEmail)
+                .orElseThrow(() -> new IllegalArgumentException("User not found with email: " + viewerEmail));
+
+        if (!userInfoRepository.existsById(otherUserId)) {
+            throw new IllegalArgumentException("User not found with id: " + otherUserId);
+        }
+
+        RatingVector.TasteMatch match = RatingVector.tasteMatch(loadVector(viewerId), loadVector(otherUserId));
+
+        log.info("Taste match {} <-> {}: {} common movies", viewerId, otherUserId, match.commonCount());
+        log.info(this.getClass().getSimpleName() + ".getTasteMatch End!");
+
+        return TasteMatchDTO.builder()
+                .userId(otherUserId)
+                .commonCount(match.commonCount())
+                .matchPercent(match.commonCount() > 0 ? (int) Math.round(match.percent()) : null)
+                .build();
+    }
+
+    /**
+     * 저장되지 않은 벡터를 리뷰로부터 만들어 저장합니다. (조회 트랜잭션이 끝난 뒤 잠금을 걸고 별도 트랜잭션에서 실행)
+     */
+    @Override
+    @Async
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void backfillVector(RatingVectorMissingEvent event) {
+        lockVector(event.userId());
+    }
+
+    /**
+     * 사용자의 벡터를 조회합니다. 아직 저장되지 않았다면 리뷰로부터 만들어 사용하고, 저장은 backfillVector 에 맡깁니다.
+     */
+    private RatingVector loadVector(Long userId) {
+        Optional<UserRatingVectorEntity> stored = userRatingVectorRepository.findById(userId)
+                .filter(v -> v.getVector() != null);
+
+        if (stored.isPresent()) {
+            return RatingVector.decode(stored.get().getVector());
+        }
+
+        eventPublisher.publishEvent(new RatingVectorMissingEvent(userId));
+
+        return buildFromReviews(userId);
+    }
+
+    /**
+     * 사용자의 벡터 행을 (없으면 리뷰로부터 만든 뒤) 잠금을 걸고 조회합니다.
+     */
+    private UserRatingVectorEntity lockVector(Long userId) {
+        userRatingVectorRepository.insertIfAbsent(userId);
+
+        UserRatingVectorEntity entity = userRatingVectorRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new IllegalStateException("Rating vector not found for user: " + userId));
+
+        if (entity.getVector() == null) {
+            RatingVector vector = buildFromReviews(userId);
+            entity.updateVector(vector.encode(), vector.size());
+        }
+
+        return entity;
+    }
+
+    private RatingVector buildFromReviews(Long userId) {
+        List<Object[]> rows = reviewRepository.findRatingsByUserId(userId);
+
+        long[] movieIds = new long[rows.size()];
+        double[] ratings = new double[rows.size()];
+
+        for (int i = 0; i < rows.size(); i++) {
+            movieIds[i] = (Long) rows.get(i)[0];
+            ratings[i] = ((Number) rows.get(i)[1]).doubleValue();
+        }
+
+        log.info("Built rating vector for user {} from {} reviews", userId, rows.size());
+
+        return RatingVector.of(movieIds, ratings);
+    }
+}
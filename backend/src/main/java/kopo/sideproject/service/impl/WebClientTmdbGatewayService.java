@@ -0,0 +1,146 @@
+package kopo.sideproject.service.impl;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.RetryRegistry;
+import kopo.sideproject.dto.TmdbMovieDetailDTO;
+import kopo.sideproject.dto.TmdbResponseDTO;
+import kopo.sideproject.service.ITmdbGatewayService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * WebClient 로 TMDB 를 논블로킹 조회 (tmdb.client=webclient)
+ * Feign 경로와 같은 캐시(TmdbCacheService), 로컬 검색 색인, 로컬 상세 정보 저장소를 사용하며,
+ * TMDB 응답을 기다리는 동안에는 스레드를 점유하지 않습니다. (DB 조회/저장만 boundedElastic 스레드에서 실행)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tmdb.client", havingValue = "webclient")
+public class WebClientTmdbGatewayService implements ITmdbGatewayService {
+
+    private final WebClient tmdbWebClient;
+    private final TmdbCacheService tmdbCacheService;
+    private final MovieApiService movieApiService;
+    private final MovieDetailMirrorService movieDetailMirrorService;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final RetryRegistry retryRegistry;
+
+    // TMDB 호출 한 번의 최대 시간 (커넥션 대기 포함)
+    @Value("${tmdb.webclient.call-timeout:5s}")
+    private Duration callTimeout;
+
+    @Override
+    public Mono<TmdbResponseDTO> getNowPlayingMovies(int page) {
+        return tmdbCacheService.getReactive(TmdbCacheService.Family.NOW_PLAYING, "page=" + page, TmdbResponseDTO.class,
+                () -> fetch("list", uri -> uri.path("/movie/now_playing")
+                        .queryParam("page", page)
+                        .queryParam("language", "ko-KR")
+                        .queryParam("region", "KR")
+                        .build(), TmdbResponseDTO.class));
+    }
+
+    @Override
+    public Mono<TmdbResponseDTO> getPopularMovies(int page) {
+        return tmdbCacheService.getReactive(TmdbCacheService.Family.POPULAR, "page=" + page, TmdbResponseDTO.class,
+                () -> fetch("list", uri -> uri.path("/movie/popular")
+                        .queryParam("page", page)
+                        .queryParam("language", "ko-KR")
+                        .build(), TmdbResponseDTO.class));
+    }
+
+    @Override
+    public Mono<TmdbResponseDTO> getUpcomingMovies(int page) {
+        return tmdbCacheService.getReactive(TmdbCacheService.Family.UPCOMING, "page=" + page, TmdbResponseDTO.class,
+                () -> fetch("list", uri -> uri.path("/movie/upcoming")
+                        .queryParam("page", page)
+                        .queryParam("language", "ko-KR")
+                        .queryParam("region", "KR")
+                        .build(), TmdbResponseDTO.class));
+    }
+
+    @Override
+    public Mono<TmdbResponseDTO> searchMovies(String query, int page) {
+        // 1. 로컬 검색 색인 (메모리) 에서 먼저 검색
+        MovieSearchIndexService.SearchResult local = movieApiService.searchLocal(query, page);
+
+        if (movieApiService.isLocalSufficient(local)) {
+            return Mono.just(movieApiService.toSearchResponse(local));
+        }
+
+        // 2. 부족하면 TMDB 검색 후 로컬 결과와 합침 (첫 페이지만)
+        return tmdbCacheService.getReactive(TmdbCacheService.Family.SEARCH, MovieApiService.searchCacheKey(query, page),
+                        TmdbResponseDTO.class,
+                        () -> fetch("search", uri -> uri.path("/search/movie")
+                                .queryParam("query", "{query}")
+                                .queryParam("page", page)
+                                .queryParam("language", "ko-KR")
+                                .build(query), TmdbResponseDTO.class))
+                .map(response -> movieApiService.mergeSearchResults(local, response, page));
+    }
+
+    @Override
+    public Mono<TmdbMovieDetailDTO> getMovieDetail(Long tmdbId) {
+        return tmdbCacheService.getReactive(TmdbCacheService.Family.DETAIL, "id=" + tmdbId, TmdbMovieDetailDTO.class,
+                () -> Mono.fromCallable(() -> movieDetailMirrorService.findLocal(tmdbId).orElse(null))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .switchIfEmpty(Mono.defer(() -> fetchDetailAndStore(tmdbId))));
+    }
+
+    /**
+     * 로컬 저장소에 없는 영화 상세 정보를 TMDB 에서 가져와 저장합니다. (저장은 응답을 기다리지 않음)
+     */
+    private Mono<TmdbMovieDetailDTO> fetchDetailAndStore(Long tmdbId) {
+        log.info("Movie detail {} not found in local mirror. Fetching from TMDB", tmdbId);
+
+        return fetch("detail", uri -> uri.path("/movie/{tmdbId}")
+                        .queryParam("language", "ko-KR")
+                        .queryParam("append_to_response", MovieDetailMirrorService.APPEND_TO_RESPONSE)
+                        .queryParam("include_image_language", "en,null")
+                        .build(tmdbId), TmdbMovieDetailDTO.class)
+                .doOnNext(detail -> Mono.fromRunnable(() -> movieDetailMirrorService.store(tmdbId, detail))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .subscribe());
+    }
+
+    /**
+     * TMDB GET 요청 (404 는 empty, 그 외 오류와 시간 초과는 예외)
+     * Feign 경로와 같은 서킷 브레이커 / API 종류별 벌크헤드 / 재시도를 적용합니다. (ResilientFeignClient 와 같은 순서)
+     *
+     * @param endpointFamily API 종류 (list, search, detail)
+     */
+    private <T> Mono<T> fetch(String endpointFamily, Function<UriBuilder, URI> uri, Class<T> type) {
+        return tmdbWebClient.get()
+                .uri(uri)
+                .exchangeToMono(response -> {
+                    if (response.statusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                        return response.releaseBody().then(Mono.<T>empty());
+                    }
+                    if (response.statusCode().isError()) {
+                        return response.<T>createError();
+                    }
+                    return response.bodyToMono(type);
+                })
+                .timeout(callTimeout)
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead("tmdb-" + endpointFamily)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker("tmdb")))
+                .transformDeferred(RetryOperator.of(retryRegistry.retry("tmdb")));
+    }
+}
@@ -0,0 +1,102 @@
+package kopo.sideproject.util;
+
+/**
+ * 한글 자모 분해 유틸 (자동완성용)
+ * 입력 중인 글자("어벤ㅈ")도 완성된 제목("어벤져스")의 앞부분과 일치하도록 음절을 호환용 자모 단위로 나눕니다.
+ */
+public class HangulUtil {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    // 겹모음은 두 모음으로 나눔 (ㅘ => ㅗㅏ)
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+
+    // 겹받침은 두 자음으로 나눔 (ㄺ => ㄹㄱ)
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    // 사용자가 직접 입력한 겹자모 (호환용 자모)
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_SPLIT = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅂㅅ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"};
+
+    /**
+     * 문자열을 자모 단위로 분해합니다. 공백/문장부호는 제거하고 영문은 소문자로 바꿉니다.
+     * "어벤져스" => "ㅇㅓㅂㅔㄴㅈㅕㅅㅡ"
+     */
+    public static String toJamo(String str) {
+        StringBuilder sb = new StringBuilder(str.length() * 3);
+
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                sb.append(CHOSEONG[index / 588])
+                        .append(JUNGSEONG[(index % 588) / 28])
+                        .append(JONGSEONG[index % 28]);
+            } else if (COMPOUND_JAMO.indexOf(c) >= 0) {
+                sb.append(COMPOUND_JAMO_SPLIT[COMPOUND_JAMO.indexOf(c)]);
+            } else if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * 한글 음절은 초성만 남깁니다. 공백/문장부호는 제거하고 영문은 소문자로 바꿉니다.
+     * "어벤져스" => "ㅇㅂㅈㅅ"
+     */
+    public static String toChoseong(String str) {
+        StringBuilder sb = new StringBuilder(str.length());
+
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+
+            if (isSyllable(c)) {
+                sb.append(CHOSEONG[(c - SYLLABLE_BEGIN) / 588]);
+            } else if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * 공백을 제외한 모든 글자가 자음(ㄱ ~ ㅎ)이면 초성 검색어로 봅니다. ("ㅇㅂ")
+     */
+    public static boolean isChoseongQuery(String str) {
+        boolean hasConsonant = false;
+
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+            hasConsonant = true;
+        }
+
+        return hasConsonant;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
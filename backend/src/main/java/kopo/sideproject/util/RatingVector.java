@@ -0,0 +1,189 @@
+package kopo.sideproject.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 한 사용자의 별점 목록을 영화 ID 순으로 정렬해 담은 압축 벡터
+ * 두 벡터를 정렬 병합(merge-join)으로 한 번만 훑어 공통 영화의 별점을 비교합니다.
+ * <p>
+ * 별점은 0.5점 단위이므로 2배 한 값을 byte 로 저장합니다. (직렬화 시 영화 하나당 9바이트)
+ */
+public final class RatingVector {
+
+    private static final RatingVector EMPTY = new RatingVector(new long[0], new byte[0]);
+
+    // 별점 차이의 최댓값 (5.0 - 0.5)
+    private static final double MAX_RATING_GAP = 4.5;
+
+    // 정렬된 영화 ID / 같은 위치의 별점 * 2
+    private final long[] movieIds;
+    private final byte[] halfRatings;
+
+    private RatingVector(long[] movieIds, byte[] halfRatings) {
+        this.movieIds = movieIds;
+        this.halfRatings = halfRatings;
+    }
+
+    public static RatingVector empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 정렬되지 않은 (영화 ID, 별점) 배열로 벡터를 만듭니다.
+     */
+    public static RatingVector of(long[] movieIds, double[] ratings) {
+        if (movieIds.length != ratings.length) {
+            throw new IllegalArgumentException("movieIds and ratings must have the same length");
+        }
+
+        Integer[] order = new Integer[movieIds.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(movieIds[a], movieIds[b]));
+
+        long[] sortedIds = new long[movieIds.length];
+        byte[] sortedRatings = new byte[movieIds.length];
+
+        for (int i = 0; i < order.length; i++) {
+            sortedIds[i] = movieIds[order[i]];
+            sortedRatings[i] = toHalf(ratings[order[i]]);
+        }
+
+        return new RatingVector(sortedIds, sortedRatings);
+    }
+
+    public int size() {
+        return movieIds.length;
+    }
+
+    /**
+     * 영화의 별점을 추가(이미 있으면 변경)한 새 벡터를 반환합니다.
+     */
+    public RatingVector with(long movieId, double rating) {
+        int index = Arrays.binarySearch(movieIds, movieId);
+
+        if (index >= 0) {
+            byte[] ratings = halfRatings.clone();
+            ratings[index] = toHalf(rating);
+            return new RatingVector(movieIds, ratings);
+        }
+
+        int insertAt = -(index + 1);
+
+        long[] ids = new long[movieIds.length + 1];
+        byte[] ratings = new byte[movieIds.length + 1];
+
+        System.arraycopy(movieIds, 0, ids, 0, insertAt);
+        System.arraycopy(halfRatings, 0, ratings, 0, insertAt);
+        ids[insertAt] = movieId;
+        ratings[insertAt] = toHalf(rating);
+        System.arraycopy(movieIds, insertAt, ids, insertAt + 1, movieIds.length - insertAt);
+        System.arraycopy(halfRatings, insertAt, ratings, insertAt + 1, movieIds.length - insertAt);
+
+        return new RatingVector(ids, ratings);
+    }
+
+    /**
+     * 영화의 별점을 뺀 새 벡터를 반환합니다.
+     */
+    public RatingVector without(long movieId) {
+        int index = Arrays.binarySearch(movieIds, movieId);
+
+        if (index < 0) {
+            return this;
+        }
+
+        long[] ids = new long[movieIds.length - 1];
+        byte[] ratings = new byte[movieIds.length - 1];
+
+        System.arraycopy(movieIds, 0, ids, 0, index);
+        System.arraycopy(halfRatings, 0, ratings, 0, index);
+        System.arraycopy(movieIds, index + 1, ids, index, movieIds.length - index - 1);
+        System.arraycopy(halfRatings, index + 1, ratings, index, movieIds.length - index - 1);
+
+        return new RatingVector(ids, ratings);
+    }
+
+    /**
+     * 두 벡터의 공통 영화 별점을 비교합니다.
+     *
+     * @return 공통 영화 수와 일치도 (0 ~ 100, 공통 영화가 없으면 0)
+     */
+    public static TasteMatch tasteMatch(RatingVector a, RatingVector b) {
+        int i = 0;
+        int j = 0;
+        int common = 0;
+        long gapSum = 0;
+
+        while (i < a.movieIds.length && j < b.movieIds.length) {
+            long idA = a.movieIds[i];
+            long idB = b.movieIds[j];
+
+            if (idA < idB) {
+                i++;
+            } else if (idA > idB) {
+                j++;
+            } else {
+                gapSum += Math.abs(a.halfRatings[i] - b.halfRatings[j]);
+                common++;
+                i++;
+                j++;
+            }
+        }
+
+        if (common == 0) {
+            return new TasteMatch(0, 0);
+        }
+
+        // 평균 별점 차이가 0 이면 100%, 최대(4.5점)면 0%
+        double meanGap = (gapSum / 2.0) / common;
+
+        return new TasteMatch(common, (1 - meanGap / MAX_RATING_GAP) * 100);
+    }
+
+    /**
+     * 공통 영화 수와 일치도(%)
+     */
+    public record TasteMatch(int commonCount, double percent) {
+    }
+
+    /**
+     * DB 저장용 직렬화 (영화 수, (영화 ID, 별점 * 2) 반복)
+     */
+    public byte[] encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + movieIds.length * (Long.BYTES + 1));
+
+        buffer.putInt(movieIds.length);
+        for (int i = 0; i < movieIds.length; i++) {
+            buffer.putLong(movieIds[i]);
+            buffer.put(halfRatings[i]);
+        }
+
+        return buffer.array();
+    }
+
+    public static RatingVector decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return EMPTY;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int size = buffer.getInt();
+
+        long[] ids = new long[size];
+        byte[] ratings = new byte[size];
+
+        for (int i = 0; i < size; i++) {
+            ids[i] = buffer.getLong();
+            ratings[i] = buffer.get();
+        }
+
+        return new RatingVector(ids, ratings);
+    }
+
+    private static byte toHalf(double rating) {
+        return (byte) Math.round(rating * 2);
+    }
+}
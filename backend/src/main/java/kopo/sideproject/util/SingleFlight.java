@@ -0,0 +1,63 @@
+package kopo.sideproject.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 요청을 하나의 실행으로 합쳐주는 클래스 (single-flight)
+ * 먼저 들어온 요청만 실제로 실행하고, 실행이 끝나기 전에 들어온 같은 키의 요청은
+ * 같은 CompletableFuture 의 결과(또는 예외)를 함께 받습니다.
+ * 결과를 저장하지 않으므로 캐시와 별개로 동작합니다.
+ */
+public class SingleFlight {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlightCalls = new ConcurrentHashMap<>();
+
+    /**
+     * @param key      요청을 구분하는 키 (같은 upstream 요청이면 같은 키)
+     * @param supplier 실제 실행할 작업
+     * @return 작업 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> supplier) {
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightCalls.putIfAbsent(key, call);
+
+        // 이미 실행 중인 요청이 있으면 그 결과를 기다림
+        if (inFlight != null) {
+            return (T) await(inFlight);
+        }
+
+        try {
+            T result = supplier.get();
+            call.complete(result);
+            return result;
+
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+
+        } finally {
+            // 실행이 끝나면 키를 제거하여 다음 요청은 새로 실행되도록 함
+            inFlightCalls.remove(key, call);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            // 먼저 실행한 요청에서 발생한 예외를 그대로 다시 던짐
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
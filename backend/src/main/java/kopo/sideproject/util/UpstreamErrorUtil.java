@@ -0,0 +1,86 @@
+package kopo.sideproject.util;
+
+import feign.FeignException;
+import feign.RetryableException;
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 외부 API 호출 오류 분류
+ */
+public class UpstreamErrorUtil {
+
+    private UpstreamErrorUtil() {
+    }
+
+    /**
+     * 외부 API 를 사용할 수 없어서 발생한 오류인지 확인합니다. (연결/시간 초과, 5xx, 429, 서킷 열림, 벌크헤드 초과)
+     * 404 처럼 요청 자체가 잘못된 경우는 false 이며, 이 경우 재시도하거나 이전 응답으로 대신하지 않습니다.
+     */
+    public static boolean isUnavailable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CallNotPermittedException
+                    || cause instanceof BulkheadFullException
+                    || cause instanceof RetryableException
+                    || cause instanceof WebClientRequestException
+                    || cause instanceof IOException
+                    || cause instanceof TimeoutException) {
+                return true;
+            }
+
+            if (cause instanceof FeignException feignException && feignException.status() > 0) {
+                return isUnavailableStatus(feignException.status());
+            }
+
+            if (cause instanceof WebClientResponseException responseException) {
+                return isUnavailableStatus(responseException.getStatusCode().value());
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 응답을 기다리다 시간이 초과된 오류인지 확인합니다. (이미 응답 대기 시간만큼 기다렸으므로 재시도하지 않음)
+     */
+    public static boolean isReadTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SocketTimeoutException
+                    || cause instanceof ReadTimeoutException
+                    || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 요청한 대상이 없는 경우(404)인지 확인합니다. (TMDB 에서 삭제된 영화 등, 다시 시도해도 같은 결과)
+     */
+    public static boolean isNotFound(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof FeignException feignException && feignException.status() == 404) {
+                return true;
+            }
+
+            if (cause instanceof WebClientResponseException responseException
+                    && responseException.getStatusCode().value() == 404) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public static boolean isUnavailableStatus(int status) {
+        return status >= 500 || status == 429;
+    }
+}
@@ -0,0 +1,94 @@
+package kopo.sideproject.service.impl;
+
+import kopo.sideproject.repository.CatalogSyncCheckpointRepository;
+import kopo.sideproject.repository.MovieRepository;
+import kopo.sideproject.repository.entity.CatalogSyncCheckpointEntity;
+import kopo.sideproject.stub.StubTmdbServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "catalog.sync.enabled=false", // 스케줄 실행은 끄고 테스트에서 직접 실행
+        "catalog.sync.requests-per-second=1000"
+})
+class CatalogSyncServiceTest {
+
+    private static final StubTmdbServer stubTmdb = StubTmdbServer.start();
+
+    @DynamicPropertySource
+    static void tmdbProperties(DynamicPropertyRegistry registry) {
+        registry.add("tmdb.api.url", stubTmdb::baseUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stubTmdb.stop();
+    }
+
+    @Autowired
+    private CatalogSyncService catalogSyncService;
+
+    @Autowired
+    private CatalogSyncCheckpointRepository catalogSyncCheckpointRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @BeforeEach
+    void setUp() {
+        catalogSyncCheckpointRepository.deleteAll();
+        stubTmdb.reset();
+    }
+
+    @Test
+    void syncsEveryPageOfEveryList() {
+        stubTmdb.setTotalPages(3);
+
+        int processedPages = catalogSyncService.runSync();
+
+        assertThat(processedPages).isEqualTo(9);
+        assertThat(stubTmdb.requestedPages("now_playing")).containsExactly(1, 2, 3);
+        assertThat(stubTmdb.requestedPages("popular")).containsExactly(1, 2, 3);
+        assertThat(stubTmdb.requestedPages("upcoming")).containsExactly(1, 2, 3);
+
+        assertThat(movieRepository.findByTmdbId(StubTmdbServer.movieId("popular", 3, 4))).isPresent();
+
+        CatalogSyncCheckpointEntity checkpoint = catalogSyncCheckpointRepository.findById("popular").orElseThrow();
+        assertThat(checkpoint.getNextPage()).isEqualTo(1);
+        assertThat(checkpoint.getLastCompletedAt()).isNotNull();
+    }
+
+    @Test
+    void resumesFromCheckpointAfterFailure() {
+        stubTmdb.setTotalPages(3);
+        stubTmdb.failPage("now_playing", 2);
+
+        catalogSyncService.runSync();
+
+        CatalogSyncCheckpointEntity stopped = catalogSyncCheckpointRepository.findById("now-playing").orElseThrow();
+        assertThat(stopped.getNextPage()).isEqualTo(2);
+        assertThat(stopped.getLastCompletedAt()).isNull();
+
+        stubTmdb.clearFailures();
+        stubTmdb.clearRequests();
+
+        catalogSyncService.runSync();
+
+        // 이미 저장한 1페이지는 다시 요청하지 않음
+        List<Integer> resumedPages = stubTmdb.requestedPages("now_playing");
+        assertThat(resumedPages).containsExactly(2, 3);
+
+        CatalogSyncCheckpointEntity completed = catalogSyncCheckpointRepository.findById("now-playing").orElseThrow();
+        assertThat(completed.getNextPage()).isEqualTo(1);
+        assertThat(completed.getLastCompletedAt()).isNotNull();
+    }
+}
@@ -0,0 +1,107 @@
+package kopo.sideproject.service.impl;
+
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MovieSimilarityServiceTest {
+
+    private static final long A = 1, B = 2, C = 3;
+
+    @Test
+    void centersRatingsOnUserMean() {
+        MovieSimilarityService.RatingMatrix matrix = MovieSimilarityService.toMatrix(byUser(
+                user(10, A, 5, B, 3)));
+
+        assertThat(matrix.byMovie().get(A).get(10L)).isEqualTo(1.0);
+        assertThat(matrix.byMovie().get(B).get(10L)).isEqualTo(-1.0);
+        assertThat(matrix.norms().get(A)).isEqualTo(1.0);
+    }
+
+    @Test
+    void identicallyRatedMoviesAreFullySimilarWithoutShrinkage() {
+        MovieSimilarityService.RatingMatrix matrix = MovieSimilarityService.toMatrix(twoUsers());
+
+        List<MovieSimilarityService.Neighbor> neighbors = MovieSimilarityService.computeNeighbors(matrix, A, 30, 0, 2);
+
+        // C 는 A 와 반대로 평가되어 (유사도 < 0) 제외
+        assertThat(neighbors).hasSize(1);
+        assertThat(neighbors.get(0).movieId()).isEqualTo(B);
+        assertThat(neighbors.get(0).score()).isCloseTo(1.0, within(1e-9));
+        assertThat(neighbors.get(0).coRatings()).isEqualTo(2);
+    }
+
+    @Test
+    void shrinksScoreByCoRatingCount() {
+        MovieSimilarityService.RatingMatrix matrix = MovieSimilarityService.toMatrix(twoUsers());
+
+        List<MovieSimilarityService.Neighbor> neighbors = MovieSimilarityService.computeNeighbors(matrix, A, 30, 10, 2);
+
+        // 1.0 * n / (n + shrinkage) = 2 / 12
+        assertThat(neighbors.get(0).score()).isCloseTo(2.0 / 12, within(1e-9));
+    }
+
+    @Test
+    void skipsPairsBelowMinimumCoRatings() {
+        MovieSimilarityService.RatingMatrix matrix = MovieSimilarityService.toMatrix(twoUsers());
+
+        assertThat(MovieSimilarityService.computeNeighbors(matrix, A, 30, 0, 3)).isEmpty();
+    }
+
+    @Test
+    void keepsOnlyTopKNeighborsInScoreOrder() {
+        // B 는 A 와 같게, C 는 A 와 비슷하게 평가
+        MovieSimilarityService.RatingMatrix matrix = MovieSimilarityService.toMatrix(byUser(
+                user(10, A, 5, B, 5, C, 4, 4, 1),
+                user(11, A, 4, B, 4, C, 4, 4, 1),
+                user(12, A, 1, B, 1, C, 2, 4, 5)));
+
+        List<MovieSimilarityService.Neighbor> all = MovieSimilarityService.computeNeighbors(matrix, A, 30, 0, 2);
+        List<MovieSimilarityService.Neighbor> top1 = MovieSimilarityService.computeNeighbors(matrix, A, 1, 0, 2);
+
+        assertThat(all).extracting(MovieSimilarityService.Neighbor::movieId).startsWith(B, C);
+        assertThat(all.get(0).score()).isGreaterThan(all.get(1).score());
+        assertThat(top1).extracting(MovieSimilarityService.Neighbor::movieId).containsExactly(B);
+    }
+
+    @Test
+    void userWithSingleRatingContributesNothing() {
+        MovieSimilarityService.RatingMatrix matrix = MovieSimilarityService.toMatrix(byUser(
+                user(10, A, 5)));
+
+        assertThat(matrix.norms().get(A)).isZero();
+        assertThat(MovieSimilarityService.computeNeighbors(matrix, A, 30, 0, 1)).isEmpty();
+    }
+
+    private static Long2ObjectMap<Long2DoubleMap> twoUsers() {
+        return byUser(
+                user(10, A, 5, B, 5, C, 1),
+                user(11, A, 4, B, 4, C, 1));
+    }
+
+    /**
+     * @param movieRatings 영화 ID, 별점, 영화 ID, 별점 ...
+     */
+    private static Object[] user(long userId, double... movieRatings) {
+        Long2DoubleMap ratings = new Long2DoubleOpenHashMap();
+        for (int i = 0; i < movieRatings.length; i += 2) {
+            ratings.put((long) movieRatings[i], movieRatings[i + 1]);
+        }
+        return new Object[]{userId, ratings};
+    }
+
+    private static Long2ObjectMap<Long2DoubleMap> byUser(Object[]... users) {
+        Long2ObjectMap<Long2DoubleMap> byUser = new Long2ObjectOpenHashMap<>();
+        for (Object[] user : users) {
+            byUser.put((long) user[0], (Long2DoubleMap) user[1]);
+        }
+        return byUser;
+    }
+}
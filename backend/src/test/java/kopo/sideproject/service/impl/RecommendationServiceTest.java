@@ -0,0 +1,66 @@
+package kopo.sideproject.service.impl;
+
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import kopo.sideproject.repository.entity.MovieSimilarityEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RecommendationServiceTest {
+
+    @Test
+    void weightsNeighborsByRatingAboveUserMean() {
+        // 평균 3 => 영화 1 은 +1, 영화 2 는 -1
+        Long2DoubleMap myRatings = ratings(1, 4, 2, 2);
+
+        Long2DoubleMap scores = RecommendationService.scoreNeighbors(myRatings, List.of(
+                similarity(1, 10, 0.5),
+                similarity(2, 10, 0.5),
+                similarity(1, 11, 0.8),
+                similarity(2, 12, 0.6),
+                similarity(1, 2, 0.9)));
+
+        // 10: 0.5 - 0.5 = 0 (제외), 11: 0.8, 12: -0.6 (제외), 2: 이미 평가한 영화 (제외)
+        assertThat(scores.keySet()).containsExactly(11L);
+        assertThat(scores.get(11L)).isCloseTo(0.8, within(1e-9));
+    }
+
+    @Test
+    void fallsBackToRawRatingsWhenAllRatingsAreEqual() {
+        Long2DoubleMap myRatings = ratings(1, 4);
+
+        Long2DoubleMap scores = RecommendationService.scoreNeighbors(myRatings, List.of(
+                similarity(1, 10, 0.5),
+                similarity(1, 11, 0.25)));
+
+        // 별점 / 5 를 가중치로 사용
+        assertThat(scores.get(10L)).isCloseTo(0.5 * 0.8, within(1e-9));
+        assertThat(scores.get(11L)).isCloseTo(0.25 * 0.8, within(1e-9));
+    }
+
+    @Test
+    void returnsNothingWithoutSimilarities() {
+        assertThat(RecommendationService.scoreNeighbors(ratings(1, 4, 2, 2), List.of())).isEmpty();
+    }
+
+    private static Long2DoubleMap ratings(double... movieRatings) {
+        Long2DoubleMap ratings = new Long2DoubleOpenHashMap();
+        for (int i = 0; i < movieRatings.length; i += 2) {
+            ratings.put((long) movieRatings[i], movieRatings[i + 1]);
+        }
+        return ratings;
+    }
+
+    private static MovieSimilarityEntity similarity(long movieId, long neighborMovieId, double score) {
+        return MovieSimilarityEntity.builder()
+                .movieId(movieId)
+                .neighborMovieId(neighborMovieId)
+                .score(score)
+                .coRatingCount(2)
+                .build();
+    }
+}
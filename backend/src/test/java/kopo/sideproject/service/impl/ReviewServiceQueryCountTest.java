@@ -0,0 +1,148 @@
+package kopo.sideproject.service.impl;
+
+import jakarta.persistence.EntityManagerFactory;
+import kopo.sideproject.dto.RatingCalendarEntryDTO;
+import kopo.sideproject.dto.RatingMonthSummaryDTO;
+import kopo.sideproject.dto.ReviewDTO;
+import kopo.sideproject.dto.ReviewPageDTO;
+import kopo.sideproject.repository.MovieRepository;
+import kopo.sideproject.repository.ReviewRepository;
+import kopo.sideproject.repository.UserInfoRepository;
+import kopo.sideproject.repository.entity.MovieEntity;
+import kopo.sideproject.repository.entity.ReviewEntity;
+import kopo.sideproject.repository.entity.UserInfoEntity;
+import kopo.sideproject.service.IReviewService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리뷰 조회가 엔티티를 로딩하지 않고 SQL 한 번으로 끝나는지 Hibernate 통계로 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "catalog.sync.enabled=false"
+})
+class ReviewServiceQueryCountTest {
+
+    private static final String EMAIL = "review-query-count@test.local";
+    private static final long TMDB_ID_BASE = 990_000_000L;
+    private static final int MOVIE_COUNT = 5;
+
+    @Autowired
+    private IReviewService reviewService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private UserInfoRepository userInfoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private UserInfoEntity user;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        user = userInfoRepository.save(UserInfoEntity.builder()
+                .email(EMAIL)
+                .password("password")
+                .nickname("query-count")
+                .build());
+
+        // 영화마다 리뷰 1개씩 작성 (EAGER 연관관계라면 영화/사용자 수만큼 추가 쿼리가 발생)
+        for (int i = 0; i < MOVIE_COUNT; i++) {
+            MovieEntity movie = movieRepository.save(MovieEntity.builder()
+                    .tmdbId(TMDB_ID_BASE + i)
+                    .title("Query Count Movie " + i)
+                    .build());
+
+            reviewRepository.save(ReviewEntity.builder()
+                    .user(user)
+                    .movie(movie)
+                    .rating(1.0 + i * 0.5)
+                    .content("review " + i)
+                    .build());
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        reviewRepository.deleteAllById(reviewRepository.findReviewDTOsByUserEmail(EMAIL).stream()
+                .map(ReviewDTO::reviewId)
+                .toList());
+
+        for (int i = 0; i < MOVIE_COUNT; i++) {
+            movieRepository.findByTmdbId(TMDB_ID_BASE + i).ifPresent(movieRepository::delete);
+        }
+
+        userInfoRepository.findByEmail(EMAIL).ifPresent(userInfoRepository::delete);
+    }
+
+    @Test
+    void reviewsForMovieUseSingleStatement() {
+        ReviewPageDTO page = reviewService.getReviewsForMovies(TMDB_ID_BASE, "newest", null, 20);
+
+        assertThat(page.reviews()).hasSize(1);
+        assertSingleStatementWithoutEntities();
+    }
+
+    @Test
+    void reviewsByUserIdUseSingleStatement() {
+        List<ReviewDTO> reviews = reviewService.getReviewByUserId(user.getId());
+
+        assertThat(reviews).hasSize(MOVIE_COUNT);
+        assertThat(reviews).allSatisfy(review -> assertThat(review.title()).isNotNull());
+        assertSingleStatementWithoutEntities();
+    }
+
+    @Test
+    void ratingsCalendarUsesSingleStatement() {
+        Map<String, List<RatingCalendarEntryDTO>> calendar = reviewService.getRatingsCalender(user.getId(), YearMonth.now());
+
+        assertThat(calendar.values().stream().mapToInt(List::size).sum()).isEqualTo(MOVIE_COUNT);
+        assertSingleStatementWithoutEntities();
+    }
+
+    @Test
+    void monthlySummaryUsesSingleStatement() {
+        RatingMonthSummaryDTO summary = reviewService.getMonthlyRatingSummary(user.getId(), YearMonth.now());
+
+        assertThat(summary.reviewCount()).isEqualTo(MOVIE_COUNT);
+        assertSingleStatementWithoutEntities();
+    }
+
+    @Test
+    void reviewsByUserEmailUseSingleStatement() {
+        List<ReviewDTO> reviews = reviewService.getReviewsByUserEmail(EMAIL);
+
+        assertThat(reviews).hasSize(MOVIE_COUNT);
+        assertSingleStatementWithoutEntities();
+    }
+
+    private void assertSingleStatementWithoutEntities() {
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,155 @@
+package kopo.sideproject.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 테스트용 TMDB 목록 API 서버 (now_playing, popular, upcoming)
+ * 목록별 전체 페이지 수와 실패시킬 페이지를 지정할 수 있고, 받은 요청을 기록합니다.
+ */
+public class StubTmdbServer {
+
+    private static final Map<String, Long> ID_BASE = Map.of(
+            "now_playing", 100_000L,
+            "popular", 200_000L,
+            "upcoming", 300_000L
+    );
+
+    private static final int MOVIES_PER_PAGE = 5;
+
+    private final HttpServer server;
+
+    private volatile int totalPages = 3;
+    private final Set<String> failingPages = ConcurrentHashMap.newKeySet();
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    private StubTmdbServer(HttpServer server) {
+        this.server = server;
+    }
+
+    public static StubTmdbServer start() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            StubTmdbServer stub = new StubTmdbServer(server);
+
+            server.createContext("/movie/", stub::handle);
+            server.start();
+
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException("Stub TMDB server could not start", e);
+        }
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public void reset() {
+        totalPages = 3;
+        failingPages.clear();
+        requests.clear();
+    }
+
+    public void setTotalPages(int totalPages) {
+        this.totalPages = totalPages;
+    }
+
+    /**
+     * 지정한 목록의 페이지 요청에 500 을 응답하도록 설정
+     */
+    public void failPage(String list, int page) {
+        failingPages.add(list + ":" + page);
+    }
+
+    public void clearFailures() {
+        failingPages.clear();
+    }
+
+    public void clearRequests() {
+        requests.clear();
+    }
+
+    /**
+     * 지정한 목록에 대해 요청받은 페이지 번호 목록
+     */
+    public List<Integer> requestedPages(String list) {
+        return requests.stream()
+                .filter(request -> request.startsWith(list + ":"))
+                .map(request -> Integer.parseInt(request.substring(list.length() + 1)))
+                .collect(Collectors.toList());
+    }
+
+    public static long movieId(String list, int page, int index) {
+        return ID_BASE.get(list) + page * 100L + index;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String list = exchange.getRequestURI().getPath().substring("/movie/".length());
+        int page = Integer.parseInt(queryParam(exchange.getRequestURI().getRawQuery(), "page"));
+
+        requests.add(list + ":" + page);
+
+        if (!ID_BASE.containsKey(list)) {
+            respond(exchange, 404, "{}");
+            return;
+        }
+
+        if (failingPages.contains(list + ":" + page)) {
+            respond(exchange, 500, "{\"status_message\":\"stub failure\"}");
+            return;
+        }
+
+        String results = IntStream.range(0, MOVIES_PER_PAGE)
+                .mapToObj(i -> """
+                        {"id":%d,"title":"%s %d-%d","overview":"stub","poster_path":"/stub.jpg",\
+                        "release_date":"2024-01-01","genre_ids":[18],"vote_average":7.5}"""
+                        .formatted(movieId(list, page, i), list, page, i))
+                .collect(Collectors.joining(","));
+
+        respond(exchange, 200, """
+                {"page":%d,"results":[%s],"total_pages":%d,"total_results":%d}"""
+                .formatted(page, results, totalPages, totalPages * MOVIES_PER_PAGE));
+    }
+
+    private static String queryParam(String query, String name) {
+        if (query == null) {
+            return "1";
+        }
+
+        for (String pair : query.split("&")) {
+            String[] keyValue = pair.split("=", 2);
+            if (keyValue[0].equals(name) && keyValue.length == 2) {
+                return keyValue[1];
+            }
+        }
+        return "1";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package kopo.sideproject.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulUtilTest {
+
+    @Test
+    void splitsSyllablesIntoJamo() {
+        assertThat(HangulUtil.toJamo("어벤져스")).isEqualTo("ㅇㅓㅂㅔㄴㅈㅕㅅㅡ");
+    }
+
+    @Test
+    void splitsCompoundVowelsAndFinalConsonants() {
+        // 과 => ㄱㅗㅏ, 닭 => ㄷㅏㄹㄱ, 값 => ㄱㅏㅂㅅ
+        assertThat(HangulUtil.toJamo("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulUtil.toJamo("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulUtil.toJamo("값")).isEqualTo("ㄱㅏㅂㅅ");
+    }
+
+    @Test
+    void splitsTypedCompoundJamoTheSameWay() {
+        // 겹자모를 직접 입력해도 완성된 음절과 같은 자모가 되어야 함
+        assertThat(HangulUtil.toJamo("다ㄺ")).isEqualTo(HangulUtil.toJamo("닭"));
+        assertThat(HangulUtil.toJamo("ㄱㅘ")).isEqualTo(HangulUtil.toJamo("과"));
+    }
+
+    @Test
+    void partiallyTypedSyllableIsPrefixOfCompletedTitle() {
+        assertThat(HangulUtil.toJamo("어벤져스")).startsWith(HangulUtil.toJamo("어벤ㅈ"));
+        assertThat(HangulUtil.toJamo("어벤져스")).startsWith(HangulUtil.toJamo("어벤져"));
+    }
+
+    @Test
+    void dropsPunctuationAndLowercasesLatin() {
+        assertThat(HangulUtil.toJamo("Spider-Man 2")).isEqualTo("spiderman2");
+        assertThat(HangulUtil.toChoseong("노 웨이 홈!")).isEqualTo("ㄴㅇㅇㅎ");
+    }
+
+    @Test
+    void keepsOnlyInitialConsonants() {
+        assertThat(HangulUtil.toChoseong("어벤져스")).isEqualTo("ㅇㅂㅈㅅ");
+        assertThat(HangulUtil.toChoseong("쌍화점")).isEqualTo("ㅆㅎㅈ");
+    }
+
+    @Test
+    void detectsChoseongQuery() {
+        assertThat(HangulUtil.isChoseongQuery("ㅇㅂ")).isTrue();
+        assertThat(HangulUtil.isChoseongQuery("ㅇ ㅂ")).isTrue();
+        assertThat(HangulUtil.isChoseongQuery("어ㅂ")).isFalse();
+        assertThat(HangulUtil.isChoseongQuery("ㅏ")).isFalse();
+        assertThat(HangulUtil.isChoseongQuery("  ")).isFalse();
+    }
+}
@@ -0,0 +1,89 @@
+package kopo.sideproject.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RatingVectorTest {
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        RatingVector vector = RatingVector.of(new long[]{30, 10, 20}, new double[]{0.5, 5.0, 3.5});
+
+        byte[] encoded = vector.encode();
+        RatingVector decoded = RatingVector.decode(encoded);
+
+        // 영화 수(4바이트) + 영화당 9바이트
+        assertThat(encoded).hasSize(4 + 3 * 9);
+        assertThat(decoded.size()).isEqualTo(3);
+        assertThat(decoded.encode()).isEqualTo(encoded);
+        assertThat(RatingVector.tasteMatch(vector, decoded).percent()).isEqualTo(100.0);
+    }
+
+    @Test
+    void decodesMissingVectorAsEmpty() {
+        assertThat(RatingVector.decode(null).size()).isZero();
+        assertThat(RatingVector.decode(new byte[0]).size()).isZero();
+        assertThat(RatingVector.decode(RatingVector.empty().encode()).size()).isZero();
+    }
+
+    @Test
+    void sortsByMovieIdRegardlessOfInputOrder() {
+        RatingVector unsorted = RatingVector.of(new long[]{3, 1, 2}, new double[]{3.0, 1.0, 2.0});
+        RatingVector sorted = RatingVector.of(new long[]{1, 2, 3}, new double[]{1.0, 2.0, 3.0});
+
+        assertThat(unsorted.encode()).isEqualTo(sorted.encode());
+    }
+
+    @Test
+    void withAddsOrReplacesAndWithoutRemoves() {
+        RatingVector vector = RatingVector.of(new long[]{10, 30}, new double[]{4.0, 2.0});
+
+        RatingVector added = vector.with(20, 3.0);
+        assertThat(added.encode()).isEqualTo(RatingVector.of(new long[]{10, 20, 30}, new double[]{4.0, 3.0, 2.0}).encode());
+
+        RatingVector replaced = added.with(10, 1.5);
+        assertThat(replaced.size()).isEqualTo(3);
+        assertThat(replaced.encode()).isEqualTo(RatingVector.of(new long[]{10, 20, 30}, new double[]{1.5, 3.0, 2.0}).encode());
+
+        RatingVector removed = replaced.without(20);
+        assertThat(removed.encode()).isEqualTo(RatingVector.of(new long[]{10, 30}, new double[]{1.5, 2.0}).encode());
+
+        // 없는 영화를 빼면 그대로
+        assertThat(removed.without(99)).isSameAs(removed);
+
+        // 원래 벡터는 바뀌지 않음
+        assertThat(vector.size()).isEqualTo(2);
+    }
+
+    @Test
+    void tasteMatchComparesOnlyCommonMovies() {
+        RatingVector a = RatingVector.of(new long[]{1, 2, 3, 5}, new double[]{5.0, 4.0, 1.0, 2.0});
+        RatingVector b = RatingVector.of(new long[]{2, 3, 4, 6}, new double[]{4.0, 2.5, 3.0, 5.0});
+
+        RatingVector.TasteMatch match = RatingVector.tasteMatch(a, b);
+
+        // 공통 영화 2, 3 의 별점 차이 0 / 1.5 => 평균 0.75 => (1 - 0.75 / 4.5) * 100
+        assertThat(match.commonCount()).isEqualTo(2);
+        assertThat(match.percent()).isCloseTo((1 - 0.75 / 4.5) * 100, within(1e-9));
+        assertThat(RatingVector.tasteMatch(b, a)).isEqualTo(match);
+    }
+
+    @Test
+    void oppositeRatingsMatchZeroPercent() {
+        RatingVector a = RatingVector.of(new long[]{1}, new double[]{5.0});
+        RatingVector b = RatingVector.of(new long[]{1}, new double[]{0.5});
+
+        assertThat(RatingVector.tasteMatch(a, b).percent()).isEqualTo(0.0);
+    }
+
+    @Test
+    void noCommonMovies() {
+        RatingVector a = RatingVector.of(new long[]{1, 3}, new double[]{5.0, 4.0});
+        RatingVector b = RatingVector.of(new long[]{2, 4}, new double[]{5.0, 4.0});
+
+        assertThat(RatingVector.tasteMatch(a, b)).isEqualTo(new RatingVector.TasteMatch(0, 0));
+        assertThat(RatingVector.tasteMatch(a, RatingVector.empty()).commonCount()).isZero();
+    }
+}
@@ -14,6 +14,7 @@ import './App.css';
 function App() {
     const [currentUser, setCurrentUser] = useState(null);
     const [searchQuery, setSearchQuery] = useState('');
+    const [suggestions, setSuggestions] = useState([]);
     const navigate = useNavigate();
 
     // 로그인 사용자 정보 가져오기
@@ -35,6 +36,30 @@ function App() {
         fetchCurrentUser();
     }, []);
 
+    // 검색어 자동완성 (입력이 잠시 멈췄을 때만 요청)
+    useEffect(() => {
+        if (!searchQuery.trim()) {
+            setSuggestions([]);
+            return;
+        }
+        const timer = setTimeout(async () => {
+            try {
+                const res = await fetch(`/api/movies/suggest?prefix=${encodeURIComponent(searchQuery)}`);
+                setSuggestions(res.ok ? await res.json() : []);
+            } catch (error) {
+                console.error("Failed to fetch suggestions:", error);
+            }
+        }, 100);
+        return () => clearTimeout(timer);
+    }, [searchQuery]);
+
+    // 자동완성 항목 선택 시 상세 페이지로 이동
+    const handleSuggestionClick = (tmdbId) => {
+        setSuggestions([]);
+        setSearchQuery('');
+        navigate(`/movie/${tmdbId}`);
+    };
+
     // 로그아웃 처리 함수
     const handleLogout = async () => {
         try {
@@ -59,6 +84,7 @@ function App() {
             alert('검색어를 입력해주세요.');
             return;
         }
+        setSuggestions([]);
         navigate(`/search?query=${searchQuery}`);
     };
 
@@ -73,7 +99,7 @@ function App() {
                 </div>
 
                 {/* 중앙 검색창 */}
-                <div style={{ flexGrow: 1, maxWidth: '400px' }}>
+                <div style={{ flexGrow: 1, maxWidth: '400px', position: 'relative' }}>
                     <form onSubmit={handleSearchSubmit} style={{ display: 'flex' }}>
                         <input
                             type="text"
@@ -86,6 +112,15 @@ function App() {
                             검색
                         </button>
                     </form>
+                    {suggestions.length > 0 && (
+                        <ul style={{ position: 'absolute', top: '100%', left: 0, right: 0, margin: 0, padding: 0, listStyle: 'none', backgroundColor: 'white', borderRadius: '4px', boxShadow: '0 2px 8px rgba(0,0,0,0.3)', zIndex: 10, textAlign: 'left' }}>
+                            {suggestions.map(movie => (
+                                <li key={movie.tmdbId} onClick={() => handleSuggestionClick(movie.tmdbId)} style={{ padding: '8px', cursor: 'pointer', borderBottom: '1px solid #eee' }}>
+                                    {movie.title} {movie.releaseDate && <span style={{ color: '#888' }}>({movie.releaseDate.substring(0, 4)})</span>}
+                                </li>
+                            ))}
+                        </ul>
+                    )}
                 </div>
 
                 {/* 우측 메뉴 (로그인/회원가입 또는 사용자 정보) */}
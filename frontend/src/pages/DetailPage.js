@@ -33,6 +33,9 @@ function DetailPage() {
     const { movieId } = useParams();
     const [movie, setMovie] = useState(null);
     const [reviews, setReviews] = useState([]);
+    const [nextCursor, setNextCursor] = useState(null);
+    const [reviewSort, setReviewSort] = useState('newest');
+    const [myReview, setMyReview] = useState(null);
     const [loading, setLoading] = useState(true);
     const [currentUser, setCurrentUser] = useState(null);
 
@@ -43,15 +46,62 @@ function DetailPage() {
     // 수정 모드를 위한 상태
     const [isEditing, setIsEditing] = useState(false);
 
+    // 리뷰 목록 한 페이지 조회 (cursor 가 없으면 첫 페이지)
+    const fetchReviewPage = async (sort, cursor) => {
+        const params = new URLSearchParams({ sort });
+        if (cursor) params.append('cursor', cursor);
+
+        const res = await fetch(`/api/movies/${movieId}/reviews?${params}`);
+        if (!res.ok) throw new Error('Failed to fetch reviews');
+        return res.json();
+    };
+
+    // 내가 남긴 리뷰 조회 (없으면 null)
+    const fetchMyReview = async () => {
+        const res = await fetch(`/api/movies/${movieId}/reviews/me`);
+        return res.status === 200 ? res.json() : null;
+    };
+
+    // 내 리뷰와 리뷰 목록 첫 페이지를 다시 불러옴
+    const reloadReviews = async (sort = reviewSort) => {
+        const [myReviewData, pageData] = await Promise.all([fetchMyReview(), fetchReviewPage(sort, null)]);
+        setMyReview(myReviewData);
+        setReviews(pageData.reviews);
+        setNextCursor(pageData.nextCursor);
+    };
+
+    const handleLoadMore = async () => {
+        try {
+            const pageData = await fetchReviewPage(reviewSort, nextCursor);
+            setReviews(prev => [...prev, ...pageData.reviews]);
+            setNextCursor(pageData.nextCursor);
+        } catch (error) {
+            console.error("Failed to fetch more reviews: ", error);
+        }
+    };
+
+    const handleSortChange = async (e) => {
+        const sort = e.target.value;
+        setReviewSort(sort);
+        try {
+            const pageData = await fetchReviewPage(sort, null);
+            setReviews(pageData.reviews);
+            setNextCursor(pageData.nextCursor);
+        } catch (error) {
+            console.error("Failed to fetch reviews: ", error);
+        }
+    };
+
     useEffect(() => {
         const fetchInitialData = async () => {
             setLoading(true);
             try {
                 // 유저 정보, 영화 상세 정보, 리뷰 목록을 동시에 가져옴
-                const [userRes, movieRes, reviewsRes] = await Promise.all([
+                const [userRes, movieRes, pageData, myReviewData] = await Promise.all([
                     fetch('/api/me'),
                     fetch(`/api/movies/tmdb/${movieId}`),
-                    fetch(`/api/movies/${movieId}/reviews`)
+                    fetchReviewPage('newest', null),
+                    fetchMyReview()
                 ]);
 
                 // 유저 정보 설정
@@ -68,14 +118,17 @@ function DetailPage() {
                 setMovie(movieData);
 
                 // 리뷰 목록 설정
-                if (!reviewsRes.ok) throw new Error('Failed to fetch reviews');
-                const reviewsData = await reviewsRes.json();
-                setReviews(reviewsData);
+                setReviews(pageData.reviews);
+                setNextCursor(pageData.nextCursor);
+                setReviewSort('newest');
+                setMyReview(myReviewData);
 
             } catch (error) {
                 console.error("Failed to fetch initial data: ", error);
                 setMovie(null);
                 setReviews([]);
+                setNextCursor(null);
+                setMyReview(null);
             } finally {
                 setLoading(false);
             }
@@ -85,7 +138,6 @@ function DetailPage() {
     }, [movieId]);
 
     // 내 리뷰 정보가 업데이트될 때마다 별점/내용 상태를 업데이트
-    const myReview = currentUser ? reviews.find(r => r.email === currentUser.email) : null;
     useEffect(() => {
         if (myReview) {
             setMyRating(myReview.rating);
@@ -94,7 +146,7 @@ function DetailPage() {
             setMyRating(0);
             setMyContent('');
         }
-    }, [reviews, currentUser]); // reviews나 currentUser가 바뀔 때마다 실행
+    }, [myReview]); // 내 리뷰가 바뀔 때마다 실행
 
 
     const handleReviewSubmit = async (e) => {
@@ -120,9 +172,7 @@ function DetailPage() {
             alert(`리뷰가 성공적으로 ${isEditing ? '수정' : '등록'}되었습니다.`);
             setIsEditing(false);
             // 리뷰 목록을 다시 불러와 화면을 갱신
-            const reviewsRes = await fetch(`/api/movies/${movieId}/reviews`);
-            const reviewsData = await reviewsRes.json();
-            setReviews(reviewsData);
+            await reloadReviews();
 
         } catch (error) {
             alert(`리뷰 ${isEditing ? '수정' : '등록'}에 실패했습니다.`);
@@ -138,9 +188,7 @@ function DetailPage() {
                 // 리뷰 상태 초기화 및 목록 다시 불러오기
                 setMyRating(0);
                 setMyContent('');
-                const reviewsRes = await fetch(`/api/movies/${movieId}/reviews`);
-                const reviewsData = await reviewsRes.json();
-                setReviews(reviewsData);
+                await reloadReviews();
             } catch (error) {
                 alert("리뷰 삭제에 실패했습니다.");
             }
@@ -271,7 +319,14 @@ function DetailPage() {
 
                 {/* 리뷰 목록 */}
                 <section style={styles.section}>
-                    <h2 style={styles.sectionTitle}>리뷰 목록</h2>
+                    <div style={styles.reviewHeader}>
+                        <h2 style={{...styles.sectionTitle, marginBottom: 0}}>리뷰 목록</h2>
+                        <select value={reviewSort} onChange={handleSortChange} style={styles.sortSelect}>
+                            <option value="newest">최신순</option>
+                            <option value="highest">별점 높은순</option>
+                            <option value="lowest">별점 낮은순</option>
+                        </select>
+                    </div>
                     <div>
                         {reviews.filter(r => r.email !== currentUser?.email).length > 0 ? (
                             reviews.filter(r => r.email !== currentUser?.email).map(review => (
@@ -291,6 +346,9 @@ function DetailPage() {
                         ) : (
                             <p>작성된 다른 리뷰가 없습니다.</p>
                         )}
+                        {nextCursor && (
+                            <button onClick={handleLoadMore} style={styles.loadMoreButton}>리뷰 더보기</button>
+                        )}
                     </div>
                 </section>
             </div>
@@ -326,6 +384,9 @@ const styles = {
     reviewTextareaSmall: { width: '100%', minHeight: '60px', backgroundColor: '#333', border: '1px solid #555', borderRadius: '4px', color: '#FFF', padding: '10px', fontSize: '14px', marginTop: '15px' },
     submitButton: { backgroundColor: '#E50914', color: '#FFF', border: 'none', padding: '8px 16px', borderRadius: '4px', cursor: 'pointer', fontWeight: 'bold' },
     cancelButton: { backgroundColor: '#555', color: '#FFF', border: 'none', padding: '8px 16px', borderRadius: '4px', cursor: 'pointer', fontWeight: 'bold', marginRight: '10px' },
+    reviewHeader: { display: 'flex', justifyContent: 'space-between', alignItems: 'center', marginBottom: '20px' },
+    sortSelect: { backgroundColor: '#333', color: '#FFF', border: '1px solid #555', borderRadius: '4px', padding: '6px 10px' },
+    loadMoreButton: { display: 'block', width: '100%', backgroundColor: '#1F1F1F', color: '#A0A0A0', border: '1px solid #333', padding: '12px', borderRadius: '8px', cursor: 'pointer' },
     reviewCard: { backgroundColor: '#1F1F1F', padding: '20px', borderRadius: '8px', marginBottom: '15px' },
     reviewUserImage: { width: '40px', height: '40px', borderRadius: '50%', marginRight: '15px' },
     reviewNickname: { fontWeight: 'bold', fontSize: '18px' },
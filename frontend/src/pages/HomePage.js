@@ -12,6 +12,7 @@ function HomePage() {
     const [nowPlayingMovies, setNowPlayingMovies] = useState([]);
     const [boxOfficeMovies, setBoxOfficeMovies] = useState([]);
     const [upcomingMovies, setUpcomingMovies] = useState([]); // 개봉 예정작 상태 추가
+    const [trendingMovies, setTrendingMovies] = useState([]); // 우리 서비스 리뷰 기준 인기 급상승
     const [userRatings, setUserRatings] = useState({});
     const [loading, setLoading] = useState(true);
 
@@ -19,21 +20,24 @@ function HomePage() {
         const fetchMoviesAndRatings = async () => {
             setLoading(true);
             try {
-                const [nowPlayingRes, boxOfficeRes, upcomingRes, ratingsRes] = await Promise.all([
+                const [nowPlayingRes, boxOfficeRes, upcomingRes, trendingRes, ratingsRes] = await Promise.all([
                     fetch('/api/movies/now-playing'),
                     fetch('/api/movies/box-office'),
                     fetch('/api/movies/upcoming'), // 개봉 예정작 API 호출 추가
+                    fetch('/api/movies/trending?window=24h'),
                     fetch('/api/reviews/me')
                 ]);
 
                 const nowPlayingData = await nowPlayingRes.json();
                 const boxOfficeData = await boxOfficeRes.json();
                 const upcomingData = await upcomingRes.json(); // 데이터 파싱
+                const trendingData = trendingRes.ok ? await trendingRes.json() : [];
                 const ratingsData = await ratingsRes.json();
 
                 setNowPlayingMovies(nowPlayingData.results || []);
                 setBoxOfficeMovies(boxOfficeData || []);
                 setUpcomingMovies(upcomingData.results || []); // 상태 업데이트
+                setTrendingMovies(trendingData || []);
 
                 if (ratingsData) {
                     const ratingsMap = ratingsData.reduce((acc, review) => {
@@ -109,6 +113,13 @@ function HomePage() {
             <h1 style={{ marginBottom: '20px' }}>현재 상영 중인 영화</h1>
             {renderMovieSlider(nowPlayingMovies)}
 
+            {trendingMovies.length > 0 && (
+                <>
+                    <h1 style={{ marginTop: '50px', marginBottom: '20px' }}>지금 리뷰가 많은 영화</h1>
+                    {renderMovieSlider(trendingMovies)}
+                </>
+            )}
+
             <h1 style={{ marginTop: '50px', marginBottom: '20px' }}>일별 박스오피스 순위</h1>
             {renderMovieSlider(boxOfficeMovies)}
 
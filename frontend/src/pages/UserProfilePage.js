@@ -35,51 +35,93 @@ function UserProfilePage() {
     const [isFollowing, setIsFollowing] = useState(false);
     const [followers, setFollowers] = useState([]);
     const [following, setFollowing] = useState([]);
+    const [followersCursor, setFollowersCursor] = useState(null);
+    const [followingCursor, setFollowingCursor] = useState(null);
+
+    // 취향 일치도 state (로그인한 사용자와 프로필 주인)
+    const [tasteMatch, setTasteMatch] = useState(null);
 
     // 평가한 영화 state
     const [ratedMovies, setRatedMovies] = useState([]);
 
     // 달력 state
     const [calendarData, setCalendarData] = useState({});
+    const [calendarSummary, setCalendarSummary] = useState(null);
     const [selectedDate, setSelectedDate] = useState(new Date());
 
+    // 달력에 보이는 달의 평가 목록과 요약만 가져옴
+    const fetchCalendarMonth = async (date) => {
+        const params = `year=${date.getFullYear()}&month=${date.getMonth() + 1}`;
+        try {
+            const [calendarRes, summaryRes] = await Promise.all([
+                fetch(`/api/user/${userId}/ratings-calendar?${params}`),
+                fetch(`/api/user/${userId}/ratings-summary?${params}`)
+            ]);
+            setCalendarData(calendarRes.ok ? await calendarRes.json() : {});
+            setCalendarSummary(summaryRes.ok ? await summaryRes.json() : null);
+        } catch (error) {
+            console.error("달력 데이터를 가져오는 중 오류 발생:", error);
+        }
+    };
+
+    // 로그인한 사용자와 프로필 주인의 취향 일치도 (내 프로필이거나 비로그인이면 표시하지 않음)
+    const fetchTasteMatch = async (viewer) => {
+        if (!viewer || String(viewer.id) === String(userId)) {
+            setTasteMatch(null);
+            return;
+        }
+        try {
+            const res = await fetch(`/api/users/${userId}/taste-match`);
+            setTasteMatch(res.ok ? await res.json() : null);
+        } catch (error) {
+            console.error("취향 일치도를 가져오는 중 오류 발생:", error);
+        }
+    };
+
     // 데이터 가져오는 함수
     const fetchData = async () => {
         setLoading(true);
         try {
-            const [profileRes, countsRes, isFollowingRes, followersRes, followingRes, ratedMoviesRes, calendarRes] = await Promise.all([
+            const [meRes, profileRes, countsRes, isFollowingRes, followersRes, followingRes, ratedMoviesRes] = await Promise.all([
+                fetch('/api/me'),
                 fetch(`/api/user/${userId}`),
                 fetch(`/api/users/${userId}/follow-counts`),
                 fetch(`/api/users/${userId}/is-following`),
                 fetch(`/api/users/${userId}/followers`),
                 fetch(`/api/users/${userId}/following`),
-                fetch(`/api/user/${userId}/reviews`),
-                fetch(`/api/user/${userId}/ratings-calendar`) // 달력 데이터 API 호출 추가
+                fetch(`/api/user/${userId}/reviews`)
             ]);
 
             if (!profileRes.ok) throw new Error("사용자를 찾을 수 없습니다.");
 
             // 모든 응답을 JSON으로 변환
-            const [profileData, countsData, isFollowingData, followersData, followingData, ratedMoviesData, calendarData] = await Promise.all([
+            const [profileData, countsData, isFollowingData, followersData, followingData, ratedMoviesData] = await Promise.all([
                 profileRes.json(),
                 countsRes.json(),
                 isFollowingRes.json(),
                 followersRes.json(),
                 followingRes.json(),
-                ratedMoviesRes.json(),
-                calendarRes.json()
+                ratedMoviesRes.json()
             ]);
 
+            // 로그인한 사용자 정보 (비로그인이면 null)
+            const viewer = meRes.ok ? await meRes.json() : null;
+
             // State 업데이트
+            setLoggedInUser(viewer);
             setProfileUser(profileData);
             setFollowCounts(countsData);
             setIsFollowing(isFollowingData.isFollowing);
-            setFollowers(followersData);
-            setFollowing(followingData);
+            setFollowers(followersData.users);
+            setFollowersCursor(followersData.nextCursor);
+            setFollowing(followingData.users);
+            setFollowingCursor(followingData.nextCursor);
             setRatedMovies(ratedMoviesData);
-            setCalendarData(calendarData);
             setView(null);
 
+            // 달력은 선택된 날짜가 속한 달만 조회
+            await Promise.all([fetchCalendarMonth(selectedDate), fetchTasteMatch(viewer)]);
+
         } catch (error) {
             console.error("데이터를 가져오는 중 오류 발생:", error);
             alert(error.message);
@@ -93,6 +135,22 @@ function UserProfilePage() {
         fetchData();
     }, [userId]);
 
+    // 팔로워 / 팔로잉 목록 다음 페이지 조회
+    const loadMoreFollowers = async () => {
+        const res = await fetch(`/api/users/${userId}/followers?cursor=${followersCursor}`);
+        if (!res.ok) return;
+        const page = await res.json();
+        setFollowers(prev => [...prev, ...page.users]);
+        setFollowersCursor(page.nextCursor);
+    };
+    const loadMoreFollowing = async () => {
+        const res = await fetch(`/api/users/${userId}/following?cursor=${followingCursor}`);
+        if (!res.ok) return;
+        const page = await res.json();
+        setFollowing(prev => [...prev, ...page.users]);
+        setFollowingCursor(page.nextCursor);
+    };
+
     // (handleFollow, handleUnfollow, handleUserClick, handleFileChange, handleImageUpload 함수들은 이전과 동일)
     const handleFollow = async () => { try { const response = await fetch(`/api/follow/${userId}`, { method: 'POST' }); if (response.ok) fetchData(); else throw new Error('팔로우 실패'); } catch (error) { console.error(error); alert(error.message); } };
     const handleUnfollow = async () => { try { const response = await fetch(`/api/unfollow/${userId}`, { method: 'DELETE' }); if (response.ok) fetchData(); else throw new Error('언팔로우 실패'); } catch (error) { console.error(error); alert(error.message); } };
@@ -117,6 +175,7 @@ function UserProfilePage() {
                     <img src={preview || (profileUser && profileUser.profileImg) || '/images/default_profile.png'} alt={`${profileUser ? profileUser.nickname : ''}의 프로필`} style={{ width: '150px', height: '150px', borderRadius: '50%', objectFit: 'cover' }} />
                 </div>
                 <h1 style={{ textAlign: 'center' }}>{profileUser.nickname}님의 프로필</h1>
+                {tasteMatch && <p style={{ margin: 0, color: '#ff2f6e' }}>{tasteMatch.matchPercent !== null ? `취향 일치도 ${tasteMatch.matchPercent}% (함께 평가한 영화 ${tasteMatch.commonCount}편)` : '함께 평가한 영화가 없습니다.'}</p>}
 
                 {/* 탭 버튼 */}
                 <div style={{ margin: '20px 0', display: 'flex', gap: '20px' }}>
@@ -134,16 +193,20 @@ function UserProfilePage() {
 
                 {/* 동적 컨텐츠 영역 */}
                 <div style={{ width: '100%', maxWidth: '800px', marginTop: '20px' }}>
-                    {view === 'followers' && <div><h2>팔로워</h2><ul style={{ listStyle: 'none', padding: 0 }}>{followers.map(user => <li key={user.userId} onClick={() => handleUserClick(user.userId)} style={{ cursor: 'pointer', padding: '8px 0', borderBottom: '1px solid #eee' }}><img src={user.profileImg || '/images/default_profile.png'} alt={user.nickname} style={{ width: '30px', height: '30px', borderRadius: '50%', marginRight: '10px' }} />{user.nickname}</li>)}</ul></div>}
-                    {view === 'following' && <div><h2>팔로잉</h2><ul style={{ listStyle: 'none', padding: 0 }}>{following.map(user => <li key={user.userId} onClick={() => handleUserClick(user.userId)} style={{ cursor: 'pointer', padding: '8px 0', borderBottom: '1px solid #eee' }}><img src={user.profileImg || '/images/default_profile.png'} alt={user.nickname} style={{ width: '30px', height: '30px', borderRadius: '50%', marginRight: '10px' }} />{user.nickname}</li>)}</ul></div>}
+                    {view === 'followers' && <div><h2>팔로워</h2><ul style={{ listStyle: 'none', padding: 0 }}>{followers.map(user => <li key={user.userId} onClick={() => handleUserClick(user.userId)} style={{ cursor: 'pointer', padding: '8px 0', borderBottom: '1px solid #eee' }}><img src={user.profileImg || '/images/default_profile.png'} alt={user.nickname} style={{ width: '30px', height: '30px', borderRadius: '50%', marginRight: '10px' }} />{user.nickname}</li>)}</ul>{followersCursor && <button onClick={loadMoreFollowers}>더보기</button>}</div>}
+                    {view === 'following' && <div><h2>팔로잉</h2><ul style={{ listStyle: 'none', padding: 0 }}>{following.map(user => <li key={user.userId} onClick={() => handleUserClick(user.userId)} style={{ cursor: 'pointer', padding: '8px 0', borderBottom: '1px solid #eee' }}><img src={user.profileImg || '/images/default_profile.png'} alt={user.nickname} style={{ width: '30px', height: '30px', borderRadius: '50%', marginRight: '10px' }} />{user.nickname}</li>)}</ul>{followingCursor && <button onClick={loadMoreFollowing}>더보기</button>}</div>}
                     {view === 'ratings' && <div><h2>평가한 영화</h2><div style={{ display: 'flex', flexWrap: 'wrap', justifyContent: 'center' }}>{ratedMovies.length > 0 ? ratedMovies.map(review => <div key={review.reviewId} style={{ margin: '10px', width: '180px', textAlign: 'center' }}><Link to={`/movie/${review.movieId}`}><img src={`https://image.tmdb.org/t/p/w500${review.posterPath}`} alt={review.title} style={{ width: '100%', borderRadius: '8px' }} /></Link><h4 style={{ marginTop: '8px', marginBottom: '4px', whiteSpace: 'nowrap', overflow: 'hidden', textOverflow: 'ellipsis' }}>{review.title}</h4><p style={{ margin: 0, color: '#f5c518' }}>★ {review.rating.toFixed(1)}</p></div>) : <p>평가한 영화가 없습니다.</p>}</div></div>}
                     {view === 'calendar' && (
                         <div>
                             <h2>평가 달력</h2>
+                            {calendarSummary && (
+                                <p>{calendarSummary.year}년 {calendarSummary.month}월: {calendarSummary.reviewCount}편 평가 ・ 평균 ★ {calendarSummary.averageRating.toFixed(1)}</p>
+                            )}
                             <div style={{ display: 'flex', justifyContent: 'center', gap: '20px' }}>
                                 <Calendar
                                     onChange={setSelectedDate}
                                     value={selectedDate}
+                                    onActiveStartDateChange={({ activeStartDate, view }) => view === 'month' && fetchCalendarMonth(activeStartDate)}
                                     tileContent={({ date, view }) => view === 'month' && calendarData[formatDate(date)] ? <span className="rating-dot"></span> : null}
                                 />
                                 <div style={{ width: '400px' }}>